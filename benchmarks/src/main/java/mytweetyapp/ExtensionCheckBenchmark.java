@@ -0,0 +1,131 @@
+package mytweetyapp;
+
+/*
+ * JMH benchmark for the two ways ReasonerRegistry checks a unique preferred extension: the incremental SatSession of
+ * the base framework, and SccExtensionSolver on the strongly connected components of the overlay, including the
+ * decomposition each overlay needs. Every trial generates the same fixed-seed framework, takes its grounded extension
+ * and applies fixed-seed approximate preference sets to it, so each invocation checks the same overlays.
+ * The registry benchmark is the path the verifiers take, which picks one of the two for each overlay.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+import net.sf.tweety.arg.dung.util.DefaultDungTheoryGenerator;
+import net.sf.tweety.arg.dung.util.DungTheoryGenerationParameters;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ExtensionCheckBenchmark {
+
+	//number of preference sets applied to the framework per trial
+	private static final int OVERLAYS = 100;
+
+	@Param({"100", "200"})
+	public int numberOfArguments;
+
+	@Param({"0.005", "0.01", "0.02", "0.05"})
+	public double attackProbability;
+
+	@Param({"false", "true"})
+	public boolean reversal;
+
+	private List<DungTheoryOverlay> overlays;
+	private Set<Argument> ext;
+	private long[] mask;
+	private ReasonerRegistry reasoners;
+
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		DungTheoryGenerationParameters params = new DungTheoryGenerationParameters();
+		params.numberOfArguments = numberOfArguments;
+		params.attackProbability = attackProbability;
+		params.enforceTreeShape = false;
+		DefaultDungTheoryGenerator tgen = new DefaultDungTheoryGenerator(params);
+		tgen.setSeed(0);
+		DungTheory at = tgen.next();
+		IndexedDungTheory base = new IndexedDungTheory(at);
+		mask = GroundedSolver.solve(base);
+		ext = base.toArguments(mask);
+
+		PreferenceSlots slots = new PreferenceSlots(base, ext);
+		SplittableRandom rand = new SplittableRandom(0);
+		overlays = new ArrayList<DungTheoryOverlay>();
+		for (int i = 0; i < OVERLAYS; i++)
+		{
+			EncodedPreferenceSet prefs = ArgumentationPreferences.ComputeApproximatePreferencesEncoded(at, ext, slots, rand);
+			overlays.add(reversal ? DungTheoryOverlay.applyPreferenceSetReverseAttack(base, prefs) : DungTheoryOverlay.applyPreferenceSetRemoveAttack(base, prefs));
+		}
+		//no cache, so that every invocation runs the checks
+		reasoners = new ReasonerRegistry(0);
+	}
+
+	@Benchmark
+	public void session(Blackhole bh)
+	{
+		for (DungTheoryOverlay view : overlays)
+		{
+			SatSession session = view.getBase().acquireSatSession(Semantics.PREFERRED_SEMANTICS, view.hasAddedAttacks());
+			try
+			{
+				bh.consume(session.covers(view) ? session.isUniqueExtension(view, mask) : SatExtensionSolver.isUniquePreferredExtension(view, mask));
+			}
+			finally
+			{
+				view.getBase().releaseSatSession(session);
+			}
+		}
+	}
+
+	@Benchmark
+	public void components(Blackhole bh)
+	{
+		for (DungTheoryOverlay view : overlays)
+			bh.consume(SccExtensionSolver.isUniquePreferredExtension(view, mask));
+	}
+
+	@Benchmark
+	public void registry(Blackhole bh)
+	{
+		for (DungTheoryOverlay view : overlays)
+			bh.consume(reasoners.isUniqueExtension(view, Semantics.PREFERRED_SEMANTICS, ext));
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		Options options = new OptionsBuilder()
+				.include(ExtensionCheckBenchmark.class.getSimpleName())
+				.build();
+		new Runner(options).run();
+	}
+
+}
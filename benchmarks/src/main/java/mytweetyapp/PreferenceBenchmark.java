@@ -0,0 +1,170 @@
+package mytweetyapp;
+
+/*
+ * JMH benchmarks for computing and verifying preferences, replacing the currentTimeMillis timings of main.
+ * Every trial generates the same fixed-seed frameworks and approximate preference sets for the given size, attack
+ * probability and semantics, and each invocation runs the measured call once per framework; the approximate
+ * computation draws from a generator with the same seed in every invocation.
+ * Run with main (which adds the gc profiler for allocation rates) or with -prof gc on the JMH command line.
+ * The log is off unless a caller turned it on; it is set off for each trial so that neither console output
+ * nor the enumeration behind the per-set diagnostics is part of the measurement.
+ */
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import net.sf.tweety.arg.dung.reasoner.AbstractExtensionReasoner;
+import net.sf.tweety.arg.dung.semantics.Extension;
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+import net.sf.tweety.arg.dung.util.DefaultDungTheoryGenerator;
+import net.sf.tweety.arg.dung.util.DungTheoryGenerationParameters;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PreferenceBenchmark {
+
+	//number of generated frameworks per trial, as in the averages of main
+	private static final int INSTANCES = 10;
+	//seed of the framework generator and of the approximate preferences
+	private static final long SEED = 0;
+
+	@Param({"8", "12", "16"})
+	public int numberOfArguments;
+
+	@Param({"0.25", "0.5", "0.75"})
+	public double attackProbability;
+
+	@Param({"GROUNDED_SEMANTICS", "PREFERRED_SEMANTICS", "STABLE_SEMANTICS"})
+	public Semantics semantics;
+
+	private List<DungTheory> frameworks;
+	private List<Set<Argument>> extensions;
+	private List<PreferenceSetEnumerator> allPreferences;
+	private List<EncodedPreferenceSet> approximatePreferences;
+	private PreferenceLog log;
+
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		log = PreferenceLog.get();
+		PreferenceLog.set(PreferenceLog.OFF);
+
+		DungTheoryGenerationParameters params = new DungTheoryGenerationParameters();
+		params.numberOfArguments = numberOfArguments;
+		params.attackProbability = attackProbability;
+		params.enforceTreeShape = false;
+		DefaultDungTheoryGenerator tgen = new DefaultDungTheoryGenerator(params);
+		tgen.setSeed(SEED);
+		SplittableRandom rand = new SplittableRandom(SEED);
+		AbstractExtensionReasoner reasoner = AbstractExtensionReasoner.getSimpleReasonerForSemantics(semantics);
+
+		frameworks = new ArrayList<DungTheory>();
+		extensions = new ArrayList<Set<Argument>>();
+		allPreferences = new ArrayList<PreferenceSetEnumerator>();
+		approximatePreferences = new ArrayList<EncodedPreferenceSet>();
+
+		//same rule as main: keep a framework once it has a non-empty extension
+		while (frameworks.size() < INSTANCES)
+		{
+			DungTheory at = tgen.next();
+			Collection<Extension> extension_set = reasoner.getModels(at);
+			if(extension_set.isEmpty() || extension_set.iterator().next().isEmpty())
+				continue;
+			Set<Argument> ext = new HashSet<Argument>(extension_set.iterator().next());
+			frameworks.add(at);
+			extensions.add(ext);
+			allPreferences.add(PreferenceSetEnumerator.forExtension(at, ext));
+			approximatePreferences.add(ArgumentationPreferences.ComputeApproximatePreferencesEncoded(at, ext, rand));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		PreferenceLog.set(log);
+	}
+
+	@Benchmark
+	public void computeApproximatePreferences(Blackhole bh)
+	{
+		SplittableRandom rand = new SplittableRandom(SEED);
+		for (int i = 0; i < frameworks.size(); i++)
+			bh.consume(ArgumentationPreferences.ComputeApproximatePreferences(frameworks.get(i), extensions.get(i), rand));
+	}
+
+	@Benchmark
+	public void computeAllPreferences(Blackhole bh)
+	{
+		for (int i = 0; i < frameworks.size(); i++)
+			bh.consume(ArgumentationPreferences.ComputeAllPreferences(frameworks.get(i), extensions.get(i)));
+	}
+
+	@Benchmark
+	public void verifyApproximatePreferences1(Blackhole bh)
+	{
+		for (int i = 0; i < frameworks.size(); i++)
+			bh.consume(ArgumentationPreferences.verifyApproximatePreferences1(frameworks.get(i), approximatePreferences.get(i), extensions.get(i), semantics));
+	}
+
+	@Benchmark
+	public void verifyApproximatePreferences2(Blackhole bh)
+	{
+		for (int i = 0; i < frameworks.size(); i++)
+			bh.consume(ArgumentationPreferences.verifyApproximatePreferences2(frameworks.get(i), approximatePreferences.get(i), extensions.get(i), semantics));
+	}
+
+	@Benchmark
+	public void verifyPreferences1(Blackhole bh)
+	{
+		for (int i = 0; i < frameworks.size(); i++)
+			bh.consume(ArgumentationPreferences.verifyEncodedPreferences1(frameworks.get(i), allPreferences.get(i).encoded(), extensions.get(i), semantics));
+	}
+
+	@Benchmark
+	public void verifyPreferences2(Blackhole bh)
+	{
+		for (int i = 0; i < frameworks.size(); i++)
+			bh.consume(ArgumentationPreferences.verifyEncodedPreferences2(frameworks.get(i), allPreferences.get(i).encoded(), extensions.get(i), semantics));
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		Options options = new OptionsBuilder()
+				.include(PreferenceBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+
+}
@@ -0,0 +1,159 @@
+package mytweetyapp;
+
+/*
+ * Best-of-N approximate preferences: draws N approximate preference sets for one extension, verifies each
+ * on a DungTheoryOverlay (by default with the incremental grounded solver) and keeps the sets that give ext as
+ * the only extension. Draws and checks are split over a ForkJoinPool.
+ * Sample i draws from the i-th generator split() off the caller's SplittableRandom, so with a seeded generator
+ * the samples are the same whichever worker runs them. All samples share one PreferenceSlots, so they share one
+ * base framework, and equal results hit the extension cache of the ReasonerRegistry for semantics it enumerates.
+ * With firstOnly the sampler stops once a correct set is found: the set returned is then the first correct set
+ * among the samples verified, which can vary between runs, and pending samples are skipped.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class ApproximatePreferenceSampler {
+
+	private final ForkJoinPool pool;
+	private final Semantics semantics;
+	private final ReasonerRegistry reasoners;
+
+	public ApproximatePreferenceSampler(ForkJoinPool pool)
+	{
+		this(pool, Semantics.GROUNDED_SEMANTICS, new ReasonerRegistry());
+	}
+
+	public ApproximatePreferenceSampler(ForkJoinPool pool, Semantics semantics, ReasonerRegistry reasoners)
+	{
+		this.pool = pool;
+		this.semantics = semantics;
+		this.reasoners = reasoners;
+	}
+
+	//function to sample approximate preferences verified using attack removal method
+
+	public SampledPreferences samplePreferences1(DungTheory at, Set<Argument> ext, int samples, SplittableRandom rand, boolean firstOnly)
+	{
+		return sample(at, ext, samples, rand, firstOnly, false);
+	}
+
+	//function to sample approximate preferences verified using attack reversal method
+
+	public SampledPreferences samplePreferences2(DungTheory at, Set<Argument> ext, int samples, SplittableRandom rand, boolean firstOnly)
+	{
+		return sample(at, ext, samples, rand, firstOnly, true);
+	}
+
+	private SampledPreferences sample(DungTheory at, Set<Argument> ext, int samples, SplittableRandom rand, boolean firstOnly, boolean reverse)
+	{
+		if(samples < 0)
+			throw new IllegalArgumentException("Number of samples must not be negative: " + samples);
+		PreferenceSlots slots = new PreferenceSlots(at, ext);
+		SplittableRandom[] rands = new SplittableRandom[samples];
+		for (int i = 0; i < samples; i++)
+			rands[i] = rand.split();
+
+		EncodedPreferenceSet[] correct = new EncodedPreferenceSet[samples];
+		boolean[] verified = new boolean[samples];
+		AtomicBoolean found = new AtomicBoolean();
+		SampleTask task = new SampleTask(at, ext, slots, rands, reverse, firstOnly, found, correct, verified, 0, samples,
+				Math.max(1, samples / (8 * pool.getParallelism())));
+		if(ForkJoinTask.getPool() == pool)
+			task.invoke();
+		else
+			pool.invoke(task);
+
+		int count = 0;
+		List<EncodedPreferenceSet> correctSets = new ArrayList<EncodedPreferenceSet>();
+		for (int i = 0; i < samples; i++)
+		{
+			if(verified[i])
+				count++;
+			if(correct[i] != null)
+				correctSets.add(correct[i]);
+		}
+		return new SampledPreferences(count, correctSets);
+	}
+
+	private boolean isCorrect(EncodedPreferenceSet prefs, Set<Argument> ext, boolean reverse)
+	{
+		IndexedDungTheory base = prefs.getSlots().getFramework();
+		DungTheoryOverlay view = reverse ? DungTheoryOverlay.applyPreferenceSetReverseAttack(base, prefs)
+				: DungTheoryOverlay.applyPreferenceSetRemoveAttack(base, prefs);
+		return ArgumentationPreferences.verifyUniqueExtension(reverse ? 2 : 1, view, ext, semantics, reasoners);
+	}
+
+	//draws and verifies the samples from lo to hi, each writing only its own entries of correct and verified
+
+	private class SampleTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final DungTheory at;
+		private final Set<Argument> ext;
+		private final PreferenceSlots slots;
+		private final SplittableRandom[] rands;
+		private final boolean reverse;
+		private final boolean firstOnly;
+		private final AtomicBoolean found;
+		private final EncodedPreferenceSet[] correct;
+		private final boolean[] verified;
+		private final int lo;
+		private final int hi;
+		private final int threshold;
+
+		SampleTask(DungTheory at, Set<Argument> ext, PreferenceSlots slots, SplittableRandom[] rands, boolean reverse, boolean firstOnly,
+				AtomicBoolean found, EncodedPreferenceSet[] correct, boolean[] verified, int lo, int hi, int threshold)
+		{
+			this.at = at;
+			this.ext = ext;
+			this.slots = slots;
+			this.rands = rands;
+			this.reverse = reverse;
+			this.firstOnly = firstOnly;
+			this.found = found;
+			this.correct = correct;
+			this.verified = verified;
+			this.lo = lo;
+			this.hi = hi;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected void compute()
+		{
+			if(hi - lo > threshold)
+			{
+				int mid = (lo + hi) >>> 1;
+				invokeAll(new SampleTask(at, ext, slots, rands, reverse, firstOnly, found, correct, verified, lo, mid, threshold),
+						new SampleTask(at, ext, slots, rands, reverse, firstOnly, found, correct, verified, mid, hi, threshold));
+				return;
+			}
+			for (int i = lo; i < hi; i++)
+			{
+				if(firstOnly && found.get())
+					return;
+				EncodedPreferenceSet prefs = ArgumentationPreferences.ComputeApproximatePreferencesEncoded(at, ext, slots, rands[i]);
+				verified[i] = true;
+				if(isCorrect(prefs, ext, reverse))
+				{
+					correct[i] = prefs;
+					found.set(true);
+				}
+			}
+		}
+	}
+
+}
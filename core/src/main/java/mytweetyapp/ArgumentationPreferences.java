@@ -0,0 +1,1063 @@
+package mytweetyapp;
+
+/*
+ * Algorithms for computing and verifying preferences from the paper titled: "An Extension-based Approach for Computing and Verifying Preferences in Abstract Argumentation"
+ * Submitted to Journal of Artificial Intelligence (AIJ) 2023.
+ * Corresponding author: Quratul-ain Mahesar, email: q.mahesar@hud.ac.uk
+ * Shared by the experiment drivers ArgumentationOriginalAndApproximatePreferences and ArgumentationApproxPreferencesScale.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.apache.commons.math3.util.Pair;
+
+import net.sf.tweety.arg.dung.semantics.Extension;
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.Attack;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+import net.sf.tweety.commons.util.Triple;
+
+public class ArgumentationPreferences {
+	
+	
+	public static boolean checkNoDefence(DungTheory at, Set<Argument> ext, Argument a, Argument b)
+	{
+		
+		for (Argument c : ext)
+		{
+			if(c.equals(a) == false)
+			{
+				if(at.isAttackedBy(b, c) && (at.getAttackers(c).size() == 0))
+				return false;
+			}
+		}
+		return true;
+		
+	}
+	
+	//checks on preference sets take a PreferenceIndex, which the caller builds once with PreferenceIndex.of or ofSet
+	//and keeps up to date, as computeCase3Preferences does, instead of one index per call
+	
+	public static boolean checkArgumentPreferences(DungTheory at, Argument c, PreferenceIndex index)
+	{		
+		if(at.getAttackers(c).size() == 0)
+			return true;
+		return index.isFirstArgument(c);
+	}
+	
+	public static boolean checkNoDefence2(DungTheory at, Set<Argument> ext, Argument a, Argument b, PreferenceIndex index)
+	{
+		
+		for (Argument c : ext)
+		{
+			if( (c.equals(a) == false) && (checkArgumentPreferences(at, c,index))  )
+			{
+				if(at.isAttackedBy(b, c))
+				return false;
+			}
+		}
+		return true;
+		
+	}
+	
+	public static boolean checkArgumentPreferences(DungTheory at, Argument c, Collection<EncodedPreferenceSet> prefSet)
+	{		
+		if(at.getAttackers(c).size() == 0)
+			return true;
+		for(EncodedPreferenceSet pSet: prefSet)
+		{
+			if(pSet.isFirstArgument(c))
+				return true;
+		}
+		
+		return false;
+	}
+	
+	public static boolean checkArgumentPreferencesApproximate(DungTheory at, Argument c, EncodedPreferenceSet pSet)
+	{		
+		if(at.getAttackers(c).size() == 0)
+			return true;
+		return pSet.isFirstArgument(c);
+	}
+	
+	public static boolean checkNoDefence2(DungTheory at, Set<Argument> ext, Argument a, Argument b, Collection<EncodedPreferenceSet> prefSet)
+	{
+		
+		for (Argument c : ext)
+		{
+			if( (c.equals(a) == false) && (checkArgumentPreferences(at, c,prefSet))  )
+			{
+				if(at.isAttackedBy(b, c))
+				return false;
+			}
+		}
+		return true;
+		
+	}
+	
+	public static boolean checkNoDefenceApproximate(DungTheory at, Set<Argument> ext, Argument a, Argument b, EncodedPreferenceSet pSet)
+	{
+		
+		for (Argument c : ext)
+		{
+			if( (c.equals(a) == false) && (checkArgumentPreferencesApproximate(at, c,pSet))  )
+			{
+				if(at.isAttackedBy(b, c))
+				return false;
+			}
+		}
+		return true;
+		
+	}
+	
+	//word-parallel check functions on an indexed framework, where ext and the arguments heading a preference are bit masks
+	
+	public static boolean checkNoDefence(IndexedDungTheory at, long[] ext, int a, int b)
+	{
+		long[] attackers = at.getAttackers(b);
+		long[] unattacked = at.getUnattacked();
+		for (int w = 0; w < ext.length; w++)
+		{
+			long defenders = ext[w] & attackers[w] & unattacked[w];
+			if(w == (a >>> 6))
+				defenders &= ~(1L << a);
+			if(defenders != 0)
+				return false;
+		}
+		return true;
+	}
+	
+	public static boolean checkArgumentPreferences(IndexedDungTheory at, int c, long[] firstArguments)
+	{
+		return IndexedDungTheory.contains(at.getUnattacked(), c) || IndexedDungTheory.contains(firstArguments, c);
+	}
+	
+	public static boolean checkArgumentPreferencesApproximate(IndexedDungTheory at, int c, long[] firstArguments)
+	{
+		return checkArgumentPreferences(at, c, firstArguments);
+	}
+	
+	public static boolean checkNoDefence2(IndexedDungTheory at, long[] ext, int a, int b, long[] firstArguments)
+	{
+		long[] attackers = at.getAttackers(b);
+		long[] unattacked = at.getUnattacked();
+		for (int w = 0; w < ext.length; w++)
+		{
+			long defenders = ext[w] & attackers[w] & (unattacked[w] | firstArguments[w]);
+			if(w == (a >>> 6))
+				defenders &= ~(1L << a);
+			if(defenders != 0)
+				return false;
+		}
+		return true;
+	}
+	
+	public static boolean checkNoDefenceApproximate(IndexedDungTheory at, long[] ext, int a, int b, long[] firstArguments)
+	{
+		return checkNoDefence2(at, ext, a, b, firstArguments);
+	}
+	
+	public static long[] getAttackedArguments(IndexedDungTheory at, long[] ext, int a)
+	{
+		long[] attacked = at.getAttacked(a);
+		long[] attackers = at.getAttackers(a);
+		long[] attackedArguments = new long[ext.length];
+		for (int w = 0; w < ext.length; w++)
+		{
+			attackedArguments[w] = attacked[w] & ~ext[w] & ~attackers[w];
+		}
+		return attackedArguments;
+	}
+	
+	//function to compute Case1 preferences
+	
+	public static Set<Preference> computeCase1Preferences(DungTheory at, Set<Argument> ext)
+	{
+		
+		
+		//find all preferences a>b where b attacks a and there is no argument in extension that attacks b
+		Set<Preference> prefs = new HashSet<Preference>();
+				for (Argument a : ext) {
+					for (Argument b : at.getAttackers(a)) {
+				   if(checkNoDefence(at, ext, a, b))
+				   {
+						Preference dPref1 = new Preference(a, PreferenceRelation.GREATER, b);
+						prefs.add(dPref1);
+				   }
+			}
+		   
+		}
+		return prefs;
+		
+	}
+	
+	//function to compute Case1 preferences on the bit encoding
+	
+	public static EncodedPreferenceSet computeCase1Preferences(DungTheory at, Set<Argument> ext, PreferenceSlots slots)
+	{
+		IndexedDungTheory framework = slots.getFramework();
+		long[] extMask = framework.toMask(ext);
+		EncodedPreferenceSet prefs = slots.empty();
+		for (Argument arg : ext) {
+			int a = framework.indexOf(arg);
+			long[] attackers = framework.getAttackers(a);
+			for (int b = IndexedDungTheory.nextSetBit(attackers, 0); b >= 0; b = IndexedDungTheory.nextSetBit(attackers, b + 1)) {
+				int slot = slots.slot(a, b);
+				if((slot >= 0) && checkNoDefence(framework, extMask, a, b))
+				{
+					prefs.set(slot, EncodedPreferenceSet.FIRST_PREFERRED);
+				}
+			}
+		}
+		return prefs;
+	}
+	
+	public static Set<Argument> getAttackedArguments(DungTheory at, Set<Argument> ext, Argument a)
+	{
+		Set<Argument> attackedArguments = new HashSet<Argument>();
+		for (Argument b : at.getAttacked(a)) 
+		{
+			if(ext.contains(b)==false)
+			{
+				if(at.isAttackedBy(a, b) == false)
+				{
+					attackedArguments.add(b);
+				}
+			}
+		}
+		
+		return attackedArguments;
+	}
+	
+	//function to compute Case2 preferences combined together with Case1 preferences
+	
+	public static Set<Set<Preference>> computeCase2Preferences(DungTheory at, Set<Argument> ext, Set<Preference> prefs)
+	{
+		Set<Set<Preference>> prefSet = new HashSet<Set<Preference>>();
+
+		prefSet.add(prefs);
+		for (Argument a : ext) {
+			for (Argument b : getAttackedArguments(at, ext, a)) 
+			{
+				Set<Set<Preference>> prefSet1 = new HashSet<Set<Preference>>();
+
+				 for(Set<Preference> pref: prefSet)
+				   {
+						Preference dPref1 = new Preference(a, PreferenceRelation.GREATER, b);
+						Preference dPref2 = new Preference(a, PreferenceRelation.EQUAL, b);
+						
+						 Set<Preference> newpref1 = new HashSet<Preference>();
+						 Set<Preference> newpref2 = new HashSet<Preference>();
+								
+						Iterator iterator = pref.iterator();
+						 while(iterator.hasNext())
+						 {
+						
+						 Preference p = (Preference) iterator.next();
+						 newpref1.add(p);
+						 newpref2.add(p);
+						 } 
+				
+						 newpref1.add(dPref1);
+					
+						newpref2.add(dPref2);
+	
+						 prefSet1.add(newpref1);
+						 prefSet1.add(newpref2);
+						 //System.out.println(prefSet1);
+				   }
+				 		prefSet = prefSet1;
+	}
+		}
+		
+		return prefSet;
+	}
+	
+	//function to compute Case2 preferences on the bit encoding, where each branch costs one array clone
+	
+	public static List<EncodedPreferenceSet> computeCase2Preferences(DungTheory at, Set<Argument> ext, EncodedPreferenceSet prefs)
+	{
+		PreferenceSlots slots = prefs.getSlots();
+		IndexedDungTheory framework = slots.getFramework();
+		long[] extMask = framework.toMask(ext);
+		List<EncodedPreferenceSet> prefSet = new ArrayList<EncodedPreferenceSet>();
+		prefSet.add(prefs.copy());
+		for (Argument arg : ext) {
+			int a = framework.indexOf(arg);
+			long[] attacked = getAttackedArguments(framework, extMask, a);
+			for (int b = IndexedDungTheory.nextSetBit(attacked, 0); b >= 0; b = IndexedDungTheory.nextSetBit(attacked, b + 1)) 
+			{
+				int slot = slots.slot(a, b);
+				List<EncodedPreferenceSet> prefSet1 = new ArrayList<EncodedPreferenceSet>(2 * prefSet.size());
+				for(EncodedPreferenceSet pref: prefSet)
+				{
+					EncodedPreferenceSet newpref1 = pref.copy();
+					newpref1.set(slot, EncodedPreferenceSet.FIRST_PREFERRED);
+					pref.set(slot, EncodedPreferenceSet.EQUAL);
+					prefSet1.add(newpref1);
+					prefSet1.add(pref);
+				}
+				prefSet = prefSet1;
+			}
+		}
+		return prefSet;
+	}
+	
+	
+	public static boolean inPrefSet(Argument a, Argument b, PreferenceIndex index)
+	{
+		return index.contains(a, b);
+	}
+	
+	public static boolean inPrefSet(Argument a, Argument b, Collection<EncodedPreferenceSet> prefSet)
+	{
+		for(EncodedPreferenceSet pSet: prefSet)
+		{
+			if(pSet.contains(a, b))
+				return true;
+		}
+		return false;		
+	}
+	
+	public static boolean inPrefs(Argument a, Argument b, EncodedPreferenceSet pSet)
+	{
+		return pSet.contains(a, b);
+	}
+	
+	
+	//function to compute Case3 preferences combined together with Case1 and Case2 preferences
+	
+	
+	public static Set<Set<Preference>> computeCase3Preferences(DungTheory at, Set<Argument> ext, Set<Set<Preference>> prefSet)
+	{
+		//index over all sets, updated with the preferences of each new branch instead of rescanning prefSet
+		PreferenceIndex index = PreferenceIndex.of(prefSet);
+		for (Argument a : ext) {
+			for (Argument b : at.getAttackers(a)) {
+		   if((checkNoDefence2(at, ext, a, b, index)==false) && (inPrefSet(a, b, index)==false))
+		   {
+				Set<Set<Preference>> prefSet1 = new HashSet<Set<Preference>>();
+
+				 for(Set<Preference> pref: prefSet)
+				   {
+						Preference dPref1 = new Preference(a, PreferenceRelation.GREATER, b);
+						Preference dPref2 = new Preference(a, PreferenceRelation.EQUAL, b);
+						Preference dPref3 = new Preference(b, PreferenceRelation.GREATER, a);
+						
+						 Set<Preference> newpref1 = new HashSet<Preference>();
+						 Set<Preference> newpref2 = new HashSet<Preference>();
+						 Set<Preference> newpref3 = new HashSet<Preference>();
+
+		
+						Iterator iterator = pref.iterator();
+						 while(iterator.hasNext())
+						 {
+
+						 Preference p = (Preference) iterator.next();
+						 newpref1.add(p);
+						 newpref2.add(p);
+						 newpref3.add(p);
+						 } 
+
+						 newpref1.add(dPref1);
+
+						newpref2.add(dPref2);
+						newpref3.add(dPref3);
+						prefSet1.add(newpref1);
+						prefSet1.add(newpref2);
+						prefSet1.add(newpref3);
+				   }
+				 		index.add(new Preference(a, PreferenceRelation.GREATER, b));
+				 		index.add(new Preference(a, PreferenceRelation.EQUAL, b));
+				 		index.add(new Preference(b, PreferenceRelation.GREATER, a));
+				 		prefSet = prefSet1;
+		   }
+	}
+		}
+		
+		return prefSet;
+	}
+	
+	//function to compute Case3 preferences on the bit encoding, where each branch costs one array clone
+	
+	public static List<EncodedPreferenceSet> computeCase3Preferences(DungTheory at, Set<Argument> ext, List<EncodedPreferenceSet> prefSet)
+	{
+		PreferenceSlots slots = prefSet.get(0).getSlots();
+		IndexedDungTheory framework = slots.getFramework();
+		long[] extMask = framework.toMask(ext);
+		
+		//union over all sets of the arguments heading a preference and of the slots holding one
+		long[] firstArguments = new long[framework.words()];
+		long[] presentSlots = new long[IndexedDungTheory.words(slots.getNumberOfSlots())];
+		for(EncodedPreferenceSet pref: prefSet)
+		{
+			pref.addFirstArguments(firstArguments);
+			pref.addPresentSlots(presentSlots);
+		}
+		
+		for (Argument arg : ext) {
+			int a = framework.indexOf(arg);
+			long[] attackers = framework.getAttackers(a);
+			for (int b = IndexedDungTheory.nextSetBit(attackers, 0); b >= 0; b = IndexedDungTheory.nextSetBit(attackers, b + 1)) {
+				int slot = slots.slot(a, b);
+				if((slot >= 0) && (checkNoDefence2(framework, extMask, a, b, firstArguments)==false) && (IndexedDungTheory.contains(presentSlots, slot)==false))
+				{
+					IndexedDungTheory.set(firstArguments, a);
+					IndexedDungTheory.set(firstArguments, b);
+					IndexedDungTheory.set(presentSlots, slot);
+					List<EncodedPreferenceSet> prefSet1 = new ArrayList<EncodedPreferenceSet>(3 * prefSet.size());
+					for(EncodedPreferenceSet pref: prefSet)
+					{
+						EncodedPreferenceSet newpref1 = pref.copy();
+						EncodedPreferenceSet newpref2 = pref.copy();
+						newpref1.set(slot, EncodedPreferenceSet.FIRST_PREFERRED);
+						newpref2.set(slot, EncodedPreferenceSet.EQUAL);
+						pref.set(slot, EncodedPreferenceSet.SECOND_PREFERRED);
+						prefSet1.add(newpref1);
+						prefSet1.add(newpref2);
+						prefSet1.add(pref);
+					}
+					prefSet = prefSet1;
+				}
+			}
+		}
+		
+		return prefSet;
+	}
+	
+	//function that calls the functions for three cases to compute all preferences, decoded to preferences for output
+	
+	public static Set<Set<Preference>> ComputeAllPreferences(DungTheory at, Set<Argument> ext)
+	{
+		Set<Set<Preference>> prefSets = new HashSet<Set<Preference>>();
+		for(EncodedPreferenceSet prefs: ComputeAllPreferencesEncoded(at, ext))
+		{
+			prefSets.add(prefs.toPreferences());
+		}
+		return prefSets;
+	}
+	
+	//function that computes all preferences in product form: the Case 1 preferences and one factor per Case 2 and Case 3 pair,
+	//so the space can be counted, sampled and projected without expanding it
+	
+	public static PreferenceSetEnumerator ComputeAllPreferenceSpace(DungTheory at, Set<Argument> ext)
+	{
+		return PreferenceSetEnumerator.forExtension(at, ext);
+	}
+	
+	//function that calls the functions for three cases to compute all preferences on the bit encoding
+	
+	public static List<EncodedPreferenceSet> ComputeAllPreferencesEncoded(DungTheory at, Set<Argument> ext)
+	{
+		PreferenceSlots slots = new PreferenceSlots(at, ext);
+		EncodedPreferenceSet s1 = computeCase1Preferences(at, ext, slots);
+		List<EncodedPreferenceSet> s2 = computeCase2Preferences(at, ext, s1);
+		List<EncodedPreferenceSet> s3 = computeCase3Preferences(at, ext, s2);
+		return s3;
+	}
+	
+	//function that computes and returns an approximate set of preferences between arguments
+	
+	public static Set<Preference> ComputeApproximatePreferences(DungTheory at, Set<Argument> ext)
+	{
+		return ComputeApproximatePreferencesEncoded(at, ext).toPreferences();
+	}
+	
+	public static Set<Preference> ComputeApproximatePreferences(DungTheory at, Set<Argument> ext, SplittableRandom rand)
+	{
+		return ComputeApproximatePreferencesEncoded(at, ext, rand).toPreferences();
+	}
+	
+	//function that computes an approximate set of preferences on the bit encoding, with an unseeded generator
+	
+	public static EncodedPreferenceSet ComputeApproximatePreferencesEncoded(DungTheory at, Set<Argument> ext)
+	{
+		return ComputeApproximatePreferencesEncoded(at, ext, new SplittableRandom());
+	}
+	
+	//function that computes an approximate set of preferences on the bit encoding, drawing the random picks from rand,
+	//so a seeded generator gives the same preferences on every run; a SplittableRandom is not thread-safe, so
+	//parallel callers give each task its own generator, e.g. one seeded per instance or one split() off a parent
+	
+	public static EncodedPreferenceSet ComputeApproximatePreferencesEncoded(DungTheory at, Set<Argument> ext, SplittableRandom rand)
+	{
+		return ComputeApproximatePreferencesEncoded(at, ext, new PreferenceSlots(at, ext), rand);
+	}
+	
+	//the same on the slots of an earlier call, so repeated draws for one extension share one indexed framework
+	
+	public static EncodedPreferenceSet ComputeApproximatePreferencesEncoded(DungTheory at, Set<Argument> ext, PreferenceSlots slots, SplittableRandom rand)
+	{
+		IndexedDungTheory framework = slots.getFramework();
+		long[] extMask = framework.toMask(ext);
+
+		//Compute Case 1 preferences
+		
+		//Find all preferences a>b where b attacks a and there is no argument in extension that attacks b
+		EncodedPreferenceSet prefs = computeCase1Preferences(at, ext, slots);
+		long[] firstArguments = new long[framework.words()];
+		prefs.addFirstArguments(firstArguments);
+
+		
+		//Compute Case 2 preferences, picking one of a>b and a=b at random
+		
+				for (Argument arg : ext) {
+					int a = framework.indexOf(arg);
+					long[] attacked = getAttackedArguments(framework, extMask, a);
+					for (int b = IndexedDungTheory.nextSetBit(attacked, 0); b >= 0; b = IndexedDungTheory.nextSetBit(attacked, b + 1)) 
+					{
+						int randomPreference = EncodedPreferenceSet.FIRST_PREFERRED + rand.nextInt(2);
+					    
+					    prefs.set(slots.slot(a, b), randomPreference);
+					    IndexedDungTheory.set(firstArguments, a);
+
+					}
+				}
+		
+
+				
+	    //Compute Case 3 preferences, picking one of a>b, a=b and b>a at random
+
+				for (Argument arg : ext) 
+				{
+					int a = framework.indexOf(arg);
+					long[] attackers = framework.getAttackers(a);
+					for (int b = IndexedDungTheory.nextSetBit(attackers, 0); b >= 0; b = IndexedDungTheory.nextSetBit(attackers, b + 1)) 
+					{
+						int slot = slots.slot(a, b);
+						if((slot >= 0) && (checkNoDefenceApproximate(framework, extMask, a, b, firstArguments)==false) && (prefs.get(slot)==EncodedPreferenceSet.NONE))
+						{
+							int randomPreference = EncodedPreferenceSet.FIRST_PREFERRED + rand.nextInt(3);
+					    
+							prefs.set(slot, randomPreference);					
+							IndexedDungTheory.set(firstArguments, (randomPreference == EncodedPreferenceSet.SECOND_PREFERRED) ? b : a);
+						
+						}
+					}
+				}
+				
+				
+
+		return prefs;
+	
+
+	}
+	
+	/* function to print all preference sets */
+	public static void printPreferenceSets(Set<Set<Preference>> prefSet)
+	{
+		for(Set<Preference> p: prefSet)
+		{
+			for( Preference p1: p)
+			{
+				System.out.print("(" + p1.getFirst().toString() + " " + p1.getRelation() + " " + p1.getSecond().toString() + ")");
+			}
+			System.out.println(" ");
+			System.out.println("-------------------------");
+		}
+	}
+	
+	/* function to print one preference set */
+	public static void printOnePreferenceSet(Set<Preference> prefSet)
+	{
+
+			for( Preference p1: prefSet)
+			{
+				System.out.print("(" + p1.getFirst().toString() + " " + p1.getRelation() + " " + p1.getSecond().toString() + ")");
+			}
+			System.out.println(" ");
+			System.out.println("-------------------------");
+
+	}
+	
+	public static boolean isPreferenceEqual(Preference pref1, Preference pref2)
+	{
+		return pref1.isEquivalent(pref2);
+	}
+	
+	// arguments of one framework are shared instances, so the identity check decides most comparisons before equals (by name) is called
+	
+	public static boolean isSameArgument(Argument a, Argument b)
+	{
+		return (a == b) || a.equals(b);
+	}
+	
+	// function to compute set of unique preferences, where inputs are two set of sets of preferences for two different extensions
+	// a preference of prefSet1 is unique if no preference of prefSet2 has the same canonical form
+	
+	public static Set<Preference> computeUniquePrefs(Set<Set<Preference>> prefSet1, Set<Set<Preference>> prefSet2)
+	{
+		Set<Preference> keys2 = toCanonicalPreferences(prefSet2);
+		Set<Preference> uniquePrefSet = new HashSet<Preference> ();
+		for( Set<Preference> pSet1: prefSet1)
+		{
+			for( Preference p1: pSet1)
+			{
+				if(keys2.contains(p1.canonical()) == false)
+					uniquePrefSet.add(p1);
+			}
+		}
+		return uniquePrefSet;
+		
+	}
+	
+	
+	// function to compute set of common preferences, where inputs are two set of sets of preferences for two different extensions
+
+	public static Set<Preference> computeCommonPrefs(Set<Set<Preference>> prefSet1, Set<Set<Preference>> prefSet2)
+	{
+		Set<Preference> keys2 = toCanonicalPreferences(prefSet2);
+		Set<Preference> commonPrefSet = new HashSet<Preference> ();
+		for( Set<Preference> pSet1: prefSet1)
+		{
+			for( Preference p1: pSet1)
+			{
+				if(keys2.contains(p1.canonical()))
+					commonPrefSet.add(p1);
+			}
+		}
+		return commonPrefSet;
+		
+	}
+	
+	
+	// function to collect the canonical forms of all preferences of a set of preference sets
+	
+	public static Set<Preference> toCanonicalPreferences(Set<Set<Preference>> prefSet)
+	{
+		Set<Preference> keys = new HashSet<Preference>();
+		for( Set<Preference> pSet: prefSet)
+		{
+			for( Preference p: pSet)
+			{
+				keys.add(p.canonical());
+			}
+		}
+		return keys;
+	}
+	
+
+	public static Set<Set<Argument>> collectionToSet(Collection<Extension> extension_sets)
+	{
+		Iterator<Extension> ei = extension_sets.iterator();
+		Set<Set<Argument>> ext_sets = new HashSet<Set<Argument>>();
+		while (ei.hasNext()) {
+			Object[] extension_array = ei.next().toArray();
+			Set<Object> ext_set = new HashSet<Object>(Arrays.asList(extension_array));
+			Set<Argument> ext_set_argument = new HashSet<Argument>();
+			    for (Object o : ext_set) {
+			        ext_set_argument.add((Argument) o);
+			    }
+			 ext_sets.add(ext_set_argument);
+	        }
+		return ext_sets;
+	}
+	
+	
+	//function to classify the extensions of a framework with preferences applied against the input extension:
+	//0 - the only extension is ext, 1 - the only extension contains ext,
+	//2 - ext is one of several extensions, 3 - one of several extensions contains ext, -1 - incorrect
+	
+	public static int classifyExtensions(Set<Set<Argument>> ext_sets, Set<Argument> ext)
+	{
+		if(ext_sets.size()==1)
+		{
+			Set<Argument> ext_set_argument = ext_sets.iterator().next();
+			if(ext.equals(ext_set_argument))
+				return 0;
+			else if(ext_set_argument.containsAll(ext))
+				return 1;
+			else
+				return -1;
+		}
+		else if(ext_sets.contains(ext))
+			return 2;
+		for(Set<Argument> ext_set: ext_sets)
+		{
+			if(ext_set.containsAll(ext))
+				return 3;
+		}
+		return -1;
+	}
+	
+	
+	//function to get the attack that a preference cancels: for a>b (or b<a) the attack of b on a, none for a=b
+	
+	public static Attack getDefeatedAttack(Preference pref)
+	{
+		switch(pref.getRelation())
+		{
+		case GREATER:
+			return new Attack(pref.getSecond(), pref.getFirst());
+		case LESS:
+			return new Attack(pref.getFirst(), pref.getSecond());
+		default:
+			return null;
+		}
+	}
+	
+	//function to apply preferences using the method of attack removal
+
+	public static Pair<DungTheory, Set<Attack>> applyPreferenceSetRemoveAttack(DungTheory at_example, Set<Preference> PrefSet)
+	{
+		Set<Attack> attacks = new HashSet<Attack>();
+		for(Preference Pref1: PrefSet)
+		{
+			Attack attack1 = getDefeatedAttack(Pref1);
+			if((attack1 != null) && (at_example.containsAttack(attack1)))
+			{
+				at_example.remove(attack1);
+				attacks.add(attack1);
+			}
+		}
+		Pair<DungTheory, Set<Attack>> pair_da = new Pair<DungTheory, Set<Attack>>(at_example,attacks);
+		return pair_da;
+	}
+	
+	
+	//function to apply preferences using the method of attack reversal
+
+	public static Triple<DungTheory, Set<Attack>, Set<Attack>> applyPreferenceSetReverseAttack(DungTheory at_example, Set<Preference> PrefSet)
+	{
+		Set<Attack> attacksAdd = new HashSet<Attack>();
+		Set<Attack> attacksRemove = new HashSet<Attack>();
+		for(Preference Pref1: PrefSet)
+		{
+			Attack attack1 = getDefeatedAttack(Pref1);
+			if((attack1 != null) && (at_example.containsAttack(attack1)))
+			{
+				Attack attack2 = new Attack(attack1.getAttacked(), attack1.getAttacker());
+				at_example.remove(attack1);
+				attacksAdd.add(attack1);
+				if(at_example.containsAttack(attack2)==false)
+				{
+					at_example.add(attack2);
+					attacksRemove.add(attack2);
+				}
+			}
+		}
+
+		Triple<DungTheory, Set<Attack>, Set<Attack>> triple_da = new Triple<DungTheory, Set<Attack>, Set<Attack>>(at_example,attacksAdd, attacksRemove);
+		return triple_da;
+	}
+	
+	
+	//function for verifying Approximate preferences using attack removal method
+	
+	public static boolean verifyApproximatePreferences1(DungTheory at, Set<Preference> prefs, Set<Argument> ext)
+	{
+		return verifyApproximatePreferences1(at, new PreferenceSlots(at, ext).encode(prefs), ext);
+	}
+	
+	public static boolean verifyApproximatePreferences1(DungTheory at, EncodedPreferenceSet prefs, Set<Argument> ext)
+	{
+		//return verifyApproximatePreferences1(at, prefs, ext, Semantics.PREFERRED_SEMANTICS);
+		return verifyApproximatePreferences1(at, prefs, ext, Semantics.GROUNDED_SEMANTICS);
+		//return verifyApproximatePreferences1(at, prefs, ext, Semantics.STABLE_SEMANTICS);
+	}
+	
+	public static boolean verifyApproximatePreferences1(DungTheory at, EncodedPreferenceSet prefs, Set<Argument> ext, Semantics semantics)
+	{
+		return verifyApproximatePreferences1(at, prefs, ext, semantics, new ReasonerRegistry());
+	}
+	
+	public static boolean verifyApproximatePreferences1(DungTheory at, EncodedPreferenceSet prefs, Set<Argument> ext, Semantics semantics, ReasonerRegistry reasoners)
+	{
+		
+		DungTheoryOverlay view = DungTheoryOverlay.applyPreferenceSetRemoveAttack(prefs.getSlots().getFramework(), prefs);
+		boolean vcheck = verifyUniqueExtension(1, view, ext, semantics, reasoners);
+		
+		return vcheck;
+
+	}	
+	
+	//function for verifying Approximate preferences using attack reversal method
+	
+	public static boolean verifyApproximatePreferences2(DungTheory at2, Set<Preference> prefs, Set<Argument> ext)
+	{
+		return verifyApproximatePreferences2(at2, new PreferenceSlots(at2, ext).encode(prefs), ext);
+	}
+	
+	public static boolean verifyApproximatePreferences2(DungTheory at2, EncodedPreferenceSet prefs, Set<Argument> ext)
+	{
+		//return verifyApproximatePreferences2(at2, prefs, ext, Semantics.PREFERRED_SEMANTICS);
+		return verifyApproximatePreferences2(at2, prefs, ext, Semantics.GROUNDED_SEMANTICS);
+		//return verifyApproximatePreferences2(at2, prefs, ext, Semantics.STABLE_SEMANTICS);
+	}
+	
+	public static boolean verifyApproximatePreferences2(DungTheory at2, EncodedPreferenceSet prefs, Set<Argument> ext, Semantics semantics)
+	{
+		return verifyApproximatePreferences2(at2, prefs, ext, semantics, new ReasonerRegistry());
+	}
+	
+	public static boolean verifyApproximatePreferences2(DungTheory at2, EncodedPreferenceSet prefs, Set<Argument> ext, Semantics semantics, ReasonerRegistry reasoners)
+	{
+		DungTheoryOverlay view = DungTheoryOverlay.applyPreferenceSetReverseAttack(prefs.getSlots().getFramework(), prefs);
+		boolean vcheck = verifyUniqueExtension(2, view, ext, semantics, reasoners);
+
+		return vcheck;
+	}	
+	
+	
+	
+	//function for verifying preferences using attack removal method
+	
+	public static int[] verifyPreferences1(DungTheory at, Iterable<Set<Preference>> PrefSet, Set<Argument> ext)
+	{
+		return verifyEncodedPreferences1(at, new PreferenceSlots(at, ext).encodeAll(PrefSet), ext);
+	}
+	
+	public static int[] verifyEncodedPreferences1(DungTheory at, Iterable<EncodedPreferenceSet> PrefSet, Set<Argument> ext)
+	{
+		//return verifyEncodedPreferences1(at, PrefSet, ext, Semantics.PREFERRED_SEMANTICS);
+		return verifyEncodedPreferences1(at, PrefSet, ext, Semantics.GROUNDED_SEMANTICS);
+		//return verifyEncodedPreferences1(at, PrefSet, ext, Semantics.STABLE_SEMANTICS);
+	}
+	
+	public static int[] verifyEncodedPreferences1(DungTheory at, Iterable<EncodedPreferenceSet> PrefSet, Set<Argument> ext, Semantics semantics)
+	{
+		return verifyEncodedPreferences1(at, PrefSet, ext, semantics, new ReasonerRegistry());
+	}
+	
+	public static int[] verifyEncodedPreferences1(DungTheory at, Iterable<EncodedPreferenceSet> PrefSet, Set<Argument> ext, Semantics semantics, ReasonerRegistry reasoners)
+	{
+		
+		int[] countArray = new int[4];
+		
+		for (EncodedPreferenceSet Prefs: PrefSet)
+		{
+		
+		DungTheoryOverlay view = DungTheoryOverlay.applyPreferenceSetRemoveAttack(Prefs.getSlots().getFramework(), Prefs);
+		
+		 int category = verifyExtensions(1, view, ext, semantics, reasoners);
+		 if(category >= 0)
+			countArray[category]++;
+		}
+		
+		return countArray;
+
+	}
+	
+	
+	//function for verifying preferences using attack reversal method
+	
+	public static int[] verifyPreferences2(DungTheory at2, Iterable<Set<Preference>> PrefSet, Set<Argument> ext)
+	{
+		return verifyEncodedPreferences2(at2, new PreferenceSlots(at2, ext).encodeAll(PrefSet), ext);
+	}
+	
+	public static int[] verifyEncodedPreferences2(DungTheory at2, Iterable<EncodedPreferenceSet> PrefSet, Set<Argument> ext)
+	{
+		//return verifyEncodedPreferences2(at2, PrefSet, ext, Semantics.PREFERRED_SEMANTICS);
+		return verifyEncodedPreferences2(at2, PrefSet, ext, Semantics.GROUNDED_SEMANTICS);
+		//return verifyEncodedPreferences2(at2, PrefSet, ext, Semantics.STABLE_SEMANTICS);
+	}
+	
+	public static int[] verifyEncodedPreferences2(DungTheory at2, Iterable<EncodedPreferenceSet> PrefSet, Set<Argument> ext, Semantics semantics)
+	{
+		return verifyEncodedPreferences2(at2, PrefSet, ext, semantics, new ReasonerRegistry());
+	}
+	
+	public static int[] verifyEncodedPreferences2(DungTheory at2, Iterable<EncodedPreferenceSet> PrefSet, Set<Argument> ext, Semantics semantics, ReasonerRegistry reasoners)
+	{
+		int[] countArray = new int[4];
+		for (EncodedPreferenceSet Prefs: PrefSet)
+		{
+		DungTheoryOverlay view = DungTheoryOverlay.applyPreferenceSetReverseAttack(Prefs.getSlots().getFramework(), Prefs);
+		
+		 int category = verifyExtensions(2, view, ext, semantics, reasoners);
+		 if(category >= 0)
+			countArray[category]++;
+		}
+		
+		return countArray;
+	}
+	
+	
+	//functions for verifying preferences that stop at the first preference set not giving ext as the only extension,
+	//and return that set as a witness, or null if all sets are correct
+	
+	public static EncodedPreferenceSet findIncorrectPreferences1(DungTheory at, Iterable<EncodedPreferenceSet> PrefSet, Set<Argument> ext, Semantics semantics)
+	{
+		return findIncorrectPreferences1(at, PrefSet, ext, semantics, new ReasonerRegistry());
+	}
+	
+	public static EncodedPreferenceSet findIncorrectPreferences1(DungTheory at, Iterable<EncodedPreferenceSet> PrefSet, Set<Argument> ext, Semantics semantics, ReasonerRegistry reasoners)
+	{
+		return findIncorrect(PrefSet, ext, semantics, reasoners, true, false).getFirst();
+	}
+	
+	public static EncodedPreferenceSet findIncorrectPreferences2(DungTheory at2, Iterable<EncodedPreferenceSet> PrefSet, Set<Argument> ext, Semantics semantics)
+	{
+		return findIncorrectPreferences2(at2, PrefSet, ext, semantics, new ReasonerRegistry());
+	}
+	
+	public static EncodedPreferenceSet findIncorrectPreferences2(DungTheory at2, Iterable<EncodedPreferenceSet> PrefSet, Set<Argument> ext, Semantics semantics, ReasonerRegistry reasoners)
+	{
+		return findIncorrect(PrefSet, ext, semantics, reasoners, false, true).getSecond();
+	}
+	
+	//function for verifying preferences with both methods in one pass over the preference sets; returns the
+	//first incorrect set under attack removal and under attack reversal, each null if there is none
+	
+	public static Pair<EncodedPreferenceSet, EncodedPreferenceSet> findIncorrectPreferences(DungTheory at, Iterable<EncodedPreferenceSet> PrefSet, Set<Argument> ext, Semantics semantics, ReasonerRegistry reasoners)
+	{
+		return findIncorrect(PrefSet, ext, semantics, reasoners, true, true);
+	}
+	
+	//stops once every method asked for has its witness
+	
+	private static Pair<EncodedPreferenceSet, EncodedPreferenceSet> findIncorrect(Iterable<EncodedPreferenceSet> PrefSet, Set<Argument> ext, Semantics semantics, ReasonerRegistry reasoners, boolean removal, boolean reversal)
+	{
+		EncodedPreferenceSet witness1 = null;
+		EncodedPreferenceSet witness2 = null;
+		for (EncodedPreferenceSet Prefs: PrefSet)
+		{
+		boolean check1 = removal && (witness1 == null);
+		boolean check2 = reversal && (witness2 == null);
+		if((check1 == false) && (check2 == false))
+			break;
+		boolean[] correct = verifyPreferenceSet(Prefs, ext, semantics, reasoners, check1, check2);
+		if(check1 && (correct[0] == false))
+			witness1 = Prefs;
+		if(check2 && (correct[1] == false))
+			witness2 = Prefs;
+		}
+		return new Pair<EncodedPreferenceSet, EncodedPreferenceSet>(witness1, witness2);
+	}
+	
+	//function for verifying preferences with both methods in one pass over the preference sets; returns the
+	//counts of attack removal and of attack reversal, the same as verifyEncodedPreferences1 and verifyEncodedPreferences2
+	
+	public static Pair<int[], int[]> verifyEncodedPreferences(DungTheory at, Iterable<EncodedPreferenceSet> PrefSet, Set<Argument> ext, Semantics semantics, ReasonerRegistry reasoners)
+	{
+		int[] countArray1 = new int[4];
+		int[] countArray2 = new int[4];
+		for (EncodedPreferenceSet Prefs: PrefSet)
+		{
+		int[] categories = classifyPreferenceSet(Prefs, ext, semantics, reasoners, true, true);
+		 if(categories[0] >= 0)
+			countArray1[categories[0]]++;
+		 if(categories[1] >= 0)
+			countArray2[categories[1]]++;
+		}
+		return new Pair<int[], int[]>(countArray1, countArray2);
+	}
+	
+	//function for verifying Approximate preferences with both methods; returns the results of
+	//verifyApproximatePreferences1 and verifyApproximatePreferences2
+	
+	public static Pair<Boolean, Boolean> verifyApproximatePreferences(DungTheory at, EncodedPreferenceSet prefs, Set<Argument> ext, Semantics semantics, ReasonerRegistry reasoners)
+	{
+		boolean[] correct = verifyPreferenceSet(prefs, ext, semantics, reasoners, true, true);
+		return new Pair<Boolean, Boolean>(correct[0], correct[1]);
+	}
+	
+	//function to check that ext is the only extension with one preference set applied, by attack removal (first entry)
+	//and attack reversal (second entry) for the methods asked for. With both, the two frameworks are built in one pass,
+	//and when no removed attack could be reversed they have the same attacks and are checked once
+	
+	public static boolean[] verifyPreferenceSet(EncodedPreferenceSet prefs, Set<Argument> ext, Semantics semantics, ReasonerRegistry reasoners, boolean removal, boolean reversal)
+	{
+		IndexedDungTheory base = prefs.getSlots().getFramework();
+		boolean[] correct = new boolean[2];
+		if(removal && reversal)
+		{
+			Pair<DungTheoryOverlay, DungTheoryOverlay> views = DungTheoryOverlay.applyPreferenceSetRemoveAndReverseAttack(base, prefs);
+			correct[0] = verifyUniqueExtension(1, views.getFirst(), ext, semantics, reasoners);
+			if(reuseRemovalResult(views))
+			{
+				correct[1] = correct[0];
+				logVerified(2, views.getSecond(), ext, semantics, reasoners, correct[1]);
+			}
+			else
+				correct[1] = verifyUniqueExtension(2, views.getSecond(), ext, semantics, reasoners);
+		}
+		else if(removal)
+			correct[0] = verifyUniqueExtension(1, DungTheoryOverlay.applyPreferenceSetRemoveAttack(base, prefs), ext, semantics, reasoners);
+		else if(reversal)
+			correct[1] = verifyUniqueExtension(2, DungTheoryOverlay.applyPreferenceSetReverseAttack(base, prefs), ext, semantics, reasoners);
+		return correct;
+	}
+	
+	//function to get the categories of the extensions with one preference set applied, as verifyPreferenceSet
+	
+	public static int[] classifyPreferenceSet(EncodedPreferenceSet prefs, Set<Argument> ext, Semantics semantics, ReasonerRegistry reasoners, boolean removal, boolean reversal)
+	{
+		IndexedDungTheory base = prefs.getSlots().getFramework();
+		int[] categories = {-1, -1};
+		if(removal && reversal)
+		{
+			Pair<DungTheoryOverlay, DungTheoryOverlay> views = DungTheoryOverlay.applyPreferenceSetRemoveAndReverseAttack(base, prefs);
+			categories[0] = verifyExtensions(1, views.getFirst(), ext, semantics, reasoners);
+			if(reuseRemovalResult(views))
+			{
+				categories[1] = categories[0];
+				logClassified(2, views.getSecond(), ext, semantics, reasoners, categories[1]);
+			}
+			else
+				categories[1] = verifyExtensions(2, views.getSecond(), ext, semantics, reasoners);
+		}
+		else if(removal)
+			categories[0] = verifyExtensions(1, DungTheoryOverlay.applyPreferenceSetRemoveAttack(base, prefs), ext, semantics, reasoners);
+		else if(reversal)
+			categories[1] = verifyExtensions(2, DungTheoryOverlay.applyPreferenceSetReverseAttack(base, prefs), ext, semantics, reasoners);
+		return categories;
+	}
+	
+	//true if the result of the removal overlay also holds for the reversal overlay, which only differs from it by
+	//the attacks it adds
+
+	private static boolean reuseRemovalResult(Pair<DungTheoryOverlay, DungTheoryOverlay> views)
+	{
+		return views.getSecond().hasAddedAttacks() == false;
+	}
+
+	//function to check that ext is the only extension of the overlay, method 1 or 2 as in the log.
+	//The registry decides, by the grounded solver or SAT queries, so nothing is enumerated for grounded, preferred
+	//and stable semantics; all extensions are computed only for the per-set diagnostics, when they are on
+
+	public static boolean verifyUniqueExtension(int method, DungTheoryOverlay view, Set<Argument> ext, Semantics semantics, ReasonerRegistry reasoners)
+	{
+		boolean correct = reasoners.isUniqueExtension(view, semantics, ext);
+		logVerified(method, view, ext, semantics, reasoners, correct);
+		return correct;
+	}
+
+	//function to get the category of the extensions of the overlay for ext, as classifyExtensions does,
+	//decided by the registry as in verifyUniqueExtension
+
+	public static int verifyExtensions(int method, DungTheoryOverlay view, Set<Argument> ext, Semantics semantics, ReasonerRegistry reasoners)
+	{
+		int category = reasoners.classify(view, semantics, ext);
+		logClassified(method, view, ext, semantics, reasoners, category);
+		return category;
+	}
+
+	//per-set diagnostics of a verdict already reached, with the extensions of the overlay as payload
+
+	private static void logVerified(int method, DungTheoryOverlay view, Set<Argument> ext, Semantics semantics, ReasonerRegistry reasoners, boolean correct)
+	{
+		PreferenceLog log = PreferenceLog.get();
+		if(log.isDebugEnabled() == false)
+			return;
+		Set<Set<Argument>> ext_sets = reasoners.getModels(view, semantics);
+		log.verified(method, view, ext_sets, ext, classifyExtensions(ext_sets, ext), correct);
+	}
+
+	private static void logClassified(int method, DungTheoryOverlay view, Set<Argument> ext, Semantics semantics, ReasonerRegistry reasoners, int category)
+	{
+		PreferenceLog log = PreferenceLog.get();
+		if(log.isDebugEnabled())
+			log.verified(method, view, reasoners.getModels(view, semantics), ext, category, category >= 0);
+	}
+
+}
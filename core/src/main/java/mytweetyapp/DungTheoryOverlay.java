@@ -0,0 +1,323 @@
+package mytweetyapp;
+
+/*
+ * Copy-on-write view of an IndexedDungTheory with preferences applied.
+ * Added and removed attacks are recorded as a delta over the base framework; attacker and attacked
+ * rows are shared with the base and only copied for the arguments whose attacks change.
+ * The base framework and the DungTheory it was built from are never modified, so nothing has to be
+ * undone after a preference set has been verified.
+ */
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.commons.math3.util.Pair;
+
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.Attack;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class DungTheoryOverlay implements IndexedFramework {
+
+	private final IndexedDungTheory base;
+	private final long[][] attackers;
+	private final long[][] attacked;
+	private long[] unattacked;
+	private int numberOfAttacks;
+
+	//delta over the base, as attacker id in the high and attacked id in the low 32 bits
+	private final Set<Long> added = new LinkedHashSet<Long>();
+	private final Set<Long> removed = new LinkedHashSet<Long>();
+
+	public DungTheoryOverlay(IndexedDungTheory base)
+	{
+		this.base = base;
+		int n = base.size();
+		attackers = new long[n][];
+		attacked = new long[n][];
+		for (int a = 0; a < n; a++)
+		{
+			attackers[a] = base.getAttackers(a);
+			attacked[a] = base.getAttacked(a);
+		}
+		unattacked = base.getUnattacked();
+		numberOfAttacks = base.getNumberOfAttacks();
+	}
+
+	//function to build the overlay for a preference set using the method of attack removal
+
+	public static DungTheoryOverlay applyPreferenceSetRemoveAttack(IndexedDungTheory base, EncodedPreferenceSet prefs)
+	{
+		DungTheoryOverlay overlay = new DungTheoryOverlay(base);
+		applyPreferenceSet(prefs, overlay, null);
+		return overlay;
+	}
+
+	//function to build the overlay for a preference set using the method of attack reversal
+
+	public static DungTheoryOverlay applyPreferenceSetReverseAttack(IndexedDungTheory base, EncodedPreferenceSet prefs)
+	{
+		DungTheoryOverlay overlay = new DungTheoryOverlay(base);
+		applyPreferenceSet(prefs, null, overlay);
+		return overlay;
+	}
+
+	//function to build the attack removal (first) and attack reversal (second) overlays for a preference set
+	//in one pass over its slots
+
+	public static Pair<DungTheoryOverlay, DungTheoryOverlay> applyPreferenceSetRemoveAndReverseAttack(IndexedDungTheory base, EncodedPreferenceSet prefs)
+	{
+		DungTheoryOverlay removal = new DungTheoryOverlay(base);
+		DungTheoryOverlay reversal = new DungTheoryOverlay(base);
+		applyPreferenceSet(prefs, removal, reversal);
+		return new Pair<DungTheoryOverlay, DungTheoryOverlay>(removal, reversal);
+	}
+
+	//either overlay may be null
+
+	private static void applyPreferenceSet(EncodedPreferenceSet prefs, DungTheoryOverlay removal, DungTheoryOverlay reversal)
+	{
+		PreferenceSlots slots = prefs.getSlots();
+		for(int slot = prefs.nextSlot(0); slot >= 0; slot = prefs.nextSlot(slot + 1))
+		{
+			int code = prefs.get(slot);
+			if(code == EncodedPreferenceSet.EQUAL)
+				continue;
+			int preferred = (code == EncodedPreferenceSet.FIRST_PREFERRED) ? slots.getFirst(slot) : slots.getSecond(slot);
+			int other = (code == EncodedPreferenceSet.FIRST_PREFERRED) ? slots.getSecond(slot) : slots.getFirst(slot);
+
+			//slots and base are both indexed on the framework of the preference set
+			if(removal != null)
+				removal.removeAttack(other, preferred);
+			if((reversal != null) && reversal.removeAttack(other, preferred))
+				reversal.addAttack(preferred, other);
+		}
+	}
+
+	public IndexedDungTheory getBase()
+	{
+		return base;
+	}
+
+	//removes the attack of attacker on attacked, returns false if there is no such attack
+
+	public boolean removeAttack(int attacker, int attacked)
+	{
+		if(isAttackedBy(attacked, attacker) == false)
+			return false;
+		IndexedDungTheory.clear(attackersRow(attacked), attacker);
+		IndexedDungTheory.clear(attackedRow(attacker), attacked);
+		Long key = key(attacker, attacked);
+		if(added.remove(key) == false)
+			removed.add(key);
+		numberOfAttacks--;
+		if(IndexedDungTheory.isEmpty(attackers[attacked]))
+			IndexedDungTheory.set(unattackedMask(), attacked);
+		return true;
+	}
+
+	//adds the attack of attacker on attacked, returns false if it is already there
+
+	public boolean addAttack(int attacker, int attacked)
+	{
+		if(isAttackedBy(attacked, attacker))
+			return false;
+		IndexedDungTheory.set(attackersRow(attacked), attacker);
+		IndexedDungTheory.set(attackedRow(attacker), attacked);
+		Long key = key(attacker, attacked);
+		if(removed.remove(key) == false)
+			added.add(key);
+		numberOfAttacks++;
+		if(IndexedDungTheory.contains(unattacked, attacked))
+			IndexedDungTheory.clear(unattackedMask(), attacked);
+		return true;
+	}
+
+	public Set<Attack> getAddedAttacks()
+	{
+		return toAttacks(added);
+	}
+
+	public Set<Attack> getRemovedAttacks()
+	{
+		return toAttacks(removed);
+	}
+
+	//mask of the arguments whose attackers differ from the base
+
+	public long[] getChangedTargets()
+	{
+		long[] mask = new long[words()];
+		for (long key : added)
+			IndexedDungTheory.set(mask, (int) key);
+		for (long key : removed)
+			IndexedDungTheory.set(mask, (int) key);
+		return mask;
+	}
+
+	//true if the overlay has attacks its base does not have
+
+	public boolean hasAddedAttacks()
+	{
+		return added.isEmpty() == false;
+	}
+
+	//true if the overlay has the same attacks as its base
+
+	public boolean isUnchanged()
+	{
+		return added.isEmpty() && removed.isEmpty();
+	}
+
+	@Override
+	public int size()
+	{
+		return base.size();
+	}
+
+	@Override
+	public int words()
+	{
+		return base.words();
+	}
+
+	@Override
+	public int getNumberOfAttacks()
+	{
+		return numberOfAttacks;
+	}
+
+	@Override
+	public Argument getArgument(int id)
+	{
+		return base.getArgument(id);
+	}
+
+	@Override
+	public int indexOf(Argument a)
+	{
+		return base.indexOf(a);
+	}
+
+	@Override
+	public long[] getAttackers(int a)
+	{
+		return attackers[a];
+	}
+
+	@Override
+	public long[] getAttacked(int a)
+	{
+		return attacked[a];
+	}
+
+	@Override
+	public long[] getUnattacked()
+	{
+		return unattacked;
+	}
+
+	@Override
+	public boolean isAttackedBy(int a, int b)
+	{
+		return IndexedDungTheory.contains(attackers[a], b);
+	}
+
+	public boolean isAttackedBy(Argument a, Argument b)
+	{
+		int ia = indexOf(a);
+		int ib = indexOf(b);
+		return (ia >= 0) && (ib >= 0) && isAttackedBy(ia, ib);
+	}
+
+	public Set<Argument> getAttackers(Argument a)
+	{
+		int id = indexOf(a);
+		return (id < 0) ? new HashSet<Argument>() : toArguments(attackers[id]);
+	}
+
+	@Override
+	public long[] toMask(Collection<Argument> args)
+	{
+		return base.toMask(args);
+	}
+
+	@Override
+	public Set<Argument> toArguments(long[] mask)
+	{
+		return base.toArguments(mask);
+	}
+
+	//function to copy the overlay into a new DungTheory, for the tweety reasoners
+
+	public DungTheory toDungTheory()
+	{
+		DungTheory at = new DungTheory();
+		int n = size();
+		for (int a = 0; a < n; a++)
+			at.add(getArgument(a));
+		for (int a = 0; a < n; a++)
+		{
+			long[] row = attackers[a];
+			for (int b = IndexedDungTheory.nextSetBit(row, 0); b >= 0; b = IndexedDungTheory.nextSetBit(row, b + 1))
+				at.add(new Attack(getArgument(b), getArgument(a)));
+		}
+		return at;
+	}
+
+	@Override
+	public String toString()
+	{
+		Set<Attack> attacks = new HashSet<Attack>();
+		int n = size();
+		for (int a = 0; a < n; a++)
+		{
+			long[] row = attackers[a];
+			for (int b = IndexedDungTheory.nextSetBit(row, 0); b >= 0; b = IndexedDungTheory.nextSetBit(row, b + 1))
+				attacks.add(new Attack(getArgument(b), getArgument(a)));
+		}
+		long[] all = new long[words()];
+		for (int a = 0; a < n; a++)
+			IndexedDungTheory.set(all, a);
+		return "<" + toArguments(all) + "," + attacks + ">";
+	}
+
+	// copy-on-write of the rows shared with the base
+
+	private long[] attackersRow(int a)
+	{
+		if(attackers[a] == base.getAttackers(a))
+			attackers[a] = attackers[a].clone();
+		return attackers[a];
+	}
+
+	private long[] attackedRow(int a)
+	{
+		if(attacked[a] == base.getAttacked(a))
+			attacked[a] = attacked[a].clone();
+		return attacked[a];
+	}
+
+	private long[] unattackedMask()
+	{
+		if(unattacked == base.getUnattacked())
+			unattacked = unattacked.clone();
+		return unattacked;
+	}
+
+	private static Long key(int attacker, int attacked)
+	{
+		return ((long) attacker << 32) | attacked;
+	}
+
+	private Set<Attack> toAttacks(Set<Long> keys)
+	{
+		Set<Attack> attacks = new HashSet<Attack>();
+		for (long key : keys)
+			attacks.add(new Attack(getArgument((int) (key >>> 32)), getArgument((int) key)));
+		return attacks;
+	}
+
+}
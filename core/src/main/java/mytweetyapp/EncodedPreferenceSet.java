@@ -0,0 +1,173 @@
+package mytweetyapp;
+
+/*
+ * A preference set packed into 2 bits per slot of a PreferenceSlots layout.
+ * Branching a set (Case 2 and Case 3) costs one clone of the long[] instead of copying a HashSet of preferences.
+ */
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import net.sf.tweety.arg.dung.syntax.Argument;
+
+public class EncodedPreferenceSet {
+
+	public static final int NONE = 0;
+	public static final int FIRST_PREFERRED = 1;	// first > second
+	public static final int EQUAL = 2;				// first = second
+	public static final int SECOND_PREFERRED = 3;	// second > first
+
+	private static final long LOW_BITS = 0x5555555555555555L;
+
+	private final PreferenceSlots slots;
+	private final long[] words;
+
+	EncodedPreferenceSet(PreferenceSlots slots)
+	{
+		this(slots, new long[(slots.getNumberOfSlots() + 31) >>> 5]);
+	}
+
+	private EncodedPreferenceSet(PreferenceSlots slots, long[] words)
+	{
+		this.slots = slots;
+		this.words = words;
+	}
+
+	public PreferenceSlots getSlots()
+	{
+		return slots;
+	}
+
+	public int get(int slot)
+	{
+		return (int) (words[slot >>> 5] >>> ((slot & 31) << 1)) & 3;
+	}
+
+	public void set(int slot, int code)
+	{
+		int shift = (slot & 31) << 1;
+		words[slot >>> 5] = (words[slot >>> 5] & ~(3L << shift)) | ((long) code << shift);
+	}
+
+	public EncodedPreferenceSet copy()
+	{
+		return new EncodedPreferenceSet(slots, words.clone());
+	}
+
+	//true if there is a preference between a and b in either order
+
+	public boolean contains(Argument a, Argument b)
+	{
+		int slot = slots.slot(a, b);
+		return (slot >= 0) && (get(slot) != NONE);
+	}
+
+	//true if argument a is the first (preferred or equal) argument of some preference
+
+	public boolean isFirstArgument(int a)
+	{
+		for(int slot: slots.getSlots(a))
+		{
+			int code = get(slot);
+			if(code == NONE)
+				continue;
+			if((slots.getFirst(slot) == a) == (code != SECOND_PREFERRED))
+				return true;
+		}
+		return false;
+	}
+
+	public boolean isFirstArgument(Argument a)
+	{
+		int id = slots.indexOf(a);
+		return (id >= 0) && isFirstArgument(id);
+	}
+
+	//adds the ids of the arguments heading a preference to the mask
+
+	public void addFirstArguments(long[] mask)
+	{
+		for(int slot = nextSlot(0); slot >= 0; slot = nextSlot(slot + 1))
+		{
+			int code = get(slot);
+			IndexedDungTheory.set(mask, (code == SECOND_PREFERRED) ? slots.getSecond(slot) : slots.getFirst(slot));
+		}
+	}
+
+	//adds the slots holding a preference to the mask
+
+	public void addPresentSlots(long[] mask)
+	{
+		for(int slot = nextSlot(0); slot >= 0; slot = nextSlot(slot + 1))
+		{
+			IndexedDungTheory.set(mask, slot);
+		}
+	}
+
+	//returns the first slot at or after from that holds a preference, or -1 if there is none
+
+	public int nextSlot(int from)
+	{
+		int w = from >>> 5;
+		if(w >= words.length)
+			return -1;
+		long word = words[w] & (-1L << ((from & 31) << 1));
+		while (true)
+		{
+			if(word != 0)
+				return (w << 5) + (Long.numberOfTrailingZeros(word) >>> 1);
+			if(++w == words.length)
+				return -1;
+			word = words[w];
+		}
+	}
+
+	//number of preferences in the set
+
+	public int size()
+	{
+		int size = 0;
+		for(long word: words)
+		{
+			size += Long.bitCount((word | (word >>> 1)) & LOW_BITS);
+		}
+		return size;
+	}
+
+	//conversion back to preferences for output
+
+	public Set<Preference> toPreferences()
+	{
+		Set<Preference> prefs = new HashSet<Preference>();
+		for(int slot = nextSlot(0); slot >= 0; slot = nextSlot(slot + 1))
+		{
+			prefs.add(slots.toPreference(slot, get(slot)));
+		}
+		return prefs;
+	}
+
+	@Override
+	public boolean equals(Object o)
+	{
+		if(this == o)
+			return true;
+		if(!(o instanceof EncodedPreferenceSet))
+			return false;
+		EncodedPreferenceSet other = (EncodedPreferenceSet) o;
+		return (slots == other.slots) && Arrays.equals(words, other.words);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return Arrays.hashCode(words);
+	}
+
+	@Override
+	public String toString()
+	{
+		return toPreferences().toString();
+	}
+
+}
@@ -0,0 +1,286 @@
+package mytweetyapp;
+
+/*
+ * Averages over the instances of one sweep point, rounded as in the experiment drivers, with the average
+ * results file and the CSV columns of the original (original and approximate) and scale (approximate only) runs,
+ * with the best-of-N sampling columns after them when samples were drawn.
+ * The instance results are summed in list order, so the averages do not depend on the order tasks finished in.
+ */
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+public class ExperimentAverages {
+
+	private final int size;
+	private final double att_prob;
+	private final boolean original;
+	private final boolean sampled;
+
+	//original algorithm variables
+	private double avg_prefs = 0.0;
+	private double avg_prefSets = 0.0;
+	private double avg_attsno = 0.0;
+	private double avg_extsize = 0.0;
+	private double avg_computing_time = 0.0;
+	private double avg_verifying_time1 = 0.0;
+	private double avg_verifying_time2 = 0.0;
+	private String checkString1 = "All correct";
+	private String checkString2 = "All correct";
+
+	//approximate algorithm variables
+	private double a_avg_prefs = 0.0;
+	private double a_avg_prefSets = 0.0;
+	private double a_avg_computing_time = 0.0;
+	private double a_avg_verifying_time1 = 0.0;
+	private double a_avg_verifying_time2 = 0.0;
+	private String a_checkString1 = "All correct";
+	private String a_checkString2 = "All correct";
+
+	//best-of-N sampling variables, the success rates are averaged without rounding
+	private double s_avg_samples = 0.0;
+	private double s_avg_sampling_time = 0.0;
+	private double s_avg_success_rate1 = 0.0;
+	private double s_avg_success_rate2 = 0.0;
+
+	public ExperimentAverages(List<InstanceResult> results)
+	{
+		ExperimentInstance first = results.get(0).getInstance();
+		this.size = first.getSize();
+		this.att_prob = first.getAttackProbability();
+		this.original = results.get(0).hasOriginal();
+		this.sampled = results.get(0).hasSampled();
+
+		for (InstanceResult result : results)
+		{
+			avg_attsno = avg_attsno + result.getNumberOfAttacks();
+			avg_extsize = avg_extsize + result.getExtensionSize();
+
+			if(original)
+			{
+				avg_prefs = avg_prefs + result.getNumberOfPreferences();
+				avg_prefSets = avg_prefSets + result.getNumberOfPreferenceSets().doubleValue();
+				avg_computing_time = avg_computing_time + result.getComputingTime();
+				avg_verifying_time1 = avg_verifying_time1 + result.getVerifyingTime1();
+				avg_verifying_time2 = avg_verifying_time2 + result.getVerifyingTime2();
+				if(result.getCheck1() == false)
+					checkString1 = "Not correct";
+				if(result.getCheck2() == false)
+					checkString2 = "Not correct";
+			}
+
+			a_avg_prefs = a_avg_prefs + result.getApproximateNumberOfPreferences();
+			a_avg_prefSets = 1.0;
+			a_avg_computing_time = a_avg_computing_time + result.getApproximateComputingTime();
+			a_avg_verifying_time1 = a_avg_verifying_time1 + result.getApproximateVerifyingTime1();
+			a_avg_verifying_time2 = a_avg_verifying_time2 + result.getApproximateVerifyingTime2();
+			if(result.getApproximateCheck1() == false)
+				a_checkString1 = "Not correct";
+			if(result.getApproximateCheck2() == false)
+				a_checkString2 = "Not correct";
+
+			if(sampled)
+			{
+				s_avg_samples = s_avg_samples + result.getNumberOfSamples();
+				s_avg_sampling_time = s_avg_sampling_time + result.getSamplingTime();
+				s_avg_success_rate1 = s_avg_success_rate1 + result.getSuccessRate1();
+				s_avg_success_rate2 = s_avg_success_rate2 + result.getSuccessRate2();
+			}
+		}
+
+		int n = results.size();
+		avg_attsno = Math.round(avg_attsno/n);
+		avg_extsize = Math.round(avg_extsize/n);
+		avg_prefs = Math.round(avg_prefs/n);
+		avg_prefSets = Math.round(avg_prefSets/n);
+		avg_computing_time = Math.round(avg_computing_time/n);
+		avg_verifying_time1 = Math.round(avg_verifying_time1/n);
+		avg_verifying_time2 = Math.round(avg_verifying_time2/n);
+
+		a_avg_prefs = Math.round(a_avg_prefs/n);
+		a_avg_computing_time = Math.round(a_avg_computing_time/n);
+		a_avg_verifying_time1 = Math.round(a_avg_verifying_time1/n);
+		a_avg_verifying_time2 = Math.round(a_avg_verifying_time2/n);
+
+		s_avg_samples = Math.round(s_avg_samples/n);
+		s_avg_sampling_time = Math.round(s_avg_sampling_time/n);
+		s_avg_success_rate1 = s_avg_success_rate1/n;
+		s_avg_success_rate2 = s_avg_success_rate2/n;
+	}
+
+	//function to write the average results file
+
+	public void writeAverages(BufferedWriter avgresultsFileWriter) throws IOException
+	{
+		avgresultsFileWriter.write("Number of arguments in AAF:" + size);
+		avgresultsFileWriter.newLine();
+		avgresultsFileWriter.write("Preferred extension size:" + avg_extsize);
+		avgresultsFileWriter.newLine();
+		avgresultsFileWriter.write("Attack Probability:" + att_prob);
+		avgresultsFileWriter.newLine();
+		avgresultsFileWriter.write("Number of attacks in AAF:" + avg_attsno);
+		avgresultsFileWriter.newLine();
+		if(original)
+		{
+			avgresultsFileWriter.write("Number of Preference Sets: "+ avg_prefSets);
+			avgresultsFileWriter.newLine();
+			avgresultsFileWriter.write("Number of preferences in each Preference Set: "+ avg_prefs);
+			avgresultsFileWriter.newLine();
+			avgresultsFileWriter.write("Building the preference space time in milliseconds: " + avg_computing_time);
+			avgresultsFileWriter.newLine();
+			avgresultsFileWriter.write("Verifying 1 (attack removal) time in milliseconds: " + avg_verifying_time1);
+			avgresultsFileWriter.newLine();
+			avgresultsFileWriter.write("Verifying 2 (attack reversal) time in milliseconds: " + avg_verifying_time2);
+			avgresultsFileWriter.newLine();
+			avgresultsFileWriter.write("Check Verification 1: " + checkString1);
+			avgresultsFileWriter.newLine();
+			avgresultsFileWriter.write("Check Verification 2: " + checkString2);
+			avgresultsFileWriter.newLine();
+		}
+		if(sampled)
+		{
+			avgresultsFileWriter.write("Sampled approximate preference sets: " + s_avg_samples);
+			avgresultsFileWriter.newLine();
+			avgresultsFileWriter.write("Sampling time in milliseconds: " + s_avg_sampling_time);
+			avgresultsFileWriter.newLine();
+			avgresultsFileWriter.write("Success rate 1 (attack removal): " + s_avg_success_rate1);
+			avgresultsFileWriter.newLine();
+			avgresultsFileWriter.write("Success rate 2 (attack reversal): " + s_avg_success_rate2);
+			avgresultsFileWriter.newLine();
+		}
+		avgresultsFileWriter.write("--------------------------------------------------------");
+		avgresultsFileWriter.newLine();
+		avgresultsFileWriter.flush();
+	}
+
+	//function to write the CSV header, with the original algorithm columns if original is true and the sampling
+	//columns if sampled is true
+
+	public static void writeCsvHeader(Writer csvWriter, boolean original, boolean fused, boolean earlyExit, boolean sampled) throws IOException
+	{
+		csvWriter.append(getCsvHeader(original, fused, earlyExit, sampled));
+		csvWriter.append("\n");
+	}
+
+	//the CSV header line; the verification columns are named after how they were timed, so files of runs with
+	//different options have different headers: _Fused for one pass over both methods, _FirstFail for the time to the
+	//first incorrect set
+
+	public static String getCsvHeader(boolean original, boolean fused, boolean earlyExit, boolean sampled)
+	{
+		StringBuilder header = new StringBuilder();
+		header.append("AAF_Size");			// abstract argumentation framework size
+		header.append(",");
+		header.append("Avg_Ext_Size");       // average extension size
+		header.append(",");
+		header.append("Att_Prob");           // attack probability
+		header.append(",");
+		header.append("Avg_Att_No");	        // average number of attacks
+		header.append(",");
+		if(original)
+		{
+			String timing = (fused ? "_Fused" : "") + (earlyExit ? "_FirstFail" : "");
+			header.append("Avg_PrefSets_No");	// average number of preference sets
+			header.append(",");
+			header.append("Avg_Prefs_No");	    // average number of preferences
+			header.append(",");
+			header.append("C_Build_AvgTime_ms");		//average time for building the preference space; its sets are built while they are verified
+			header.append(",");
+			header.append("V1" + timing + "_AvgTime_ms");		//average time for verifying preferences (attack removal)
+			header.append(",");
+			header.append("V2" + timing + "_AvgTime_ms");		//average time for verifying preferences (attack reversal)
+			header.append(",");
+			header.append("V1_check");		//check all preferences verified correctly (attack removal)
+			header.append(",");
+			header.append("V2_check");		//check all preferences verified correctly (attack reversal)
+			header.append(",");
+		}
+		String approximateTiming = fused ? "_Fused" : "";
+		header.append("A_Avg_PrefSets_No");	// approximate average number of preference sets
+		header.append(",");
+		header.append("A_Avg_Prefs_No");	    // approximate average number of preferences
+		header.append(",");
+		header.append("A_C_AvgTime_ms");		// approximate average time for computing preferences
+		header.append(",");
+		header.append("A_V1" + approximateTiming + "_AvgTime_ms");		// approximate average time for verifying preferences (attack removal)
+		header.append(",");
+		header.append("A_V2" + approximateTiming + "_AvgTime_ms");		// approximate average time for verifying preferences (attack reversal)
+		header.append(",");
+		header.append("A_V1_check");		// approximate check all preferences verified correctly (attack removal)
+		header.append(",");
+		header.append("A_V2_check");		// approximate check all preferences verified correctly (attack reversal)
+		if(sampled)
+		{
+			header.append(",");
+			header.append("S_Samples_No");		// number of sampled approximate preference sets
+			header.append(",");
+			header.append("S_AvgTime_ms");		// average time for sampling and verifying them with both methods
+			header.append(",");
+			header.append("S_V1_SuccessRate");		// average fraction of samples verified correctly (attack removal)
+			header.append(",");
+			header.append("S_V2_SuccessRate");		// average fraction of samples verified correctly (attack reversal)
+		}
+		return header.toString();
+	}
+
+	//function to write the CSV row of this sweep point
+
+	public void writeCsvRow(Writer csvWriter) throws IOException
+	{
+		csvWriter.append(String.valueOf(size));
+		csvWriter.append(",");
+		csvWriter.append(String.valueOf(avg_extsize));
+		csvWriter.append(",");
+		csvWriter.append(String.valueOf(att_prob));
+		csvWriter.append(",");
+		csvWriter.append(String.valueOf(avg_attsno));
+		csvWriter.append(",");
+		if(original)
+		{
+			csvWriter.append(String.valueOf(avg_prefSets));
+			csvWriter.append(",");
+			csvWriter.append(String.valueOf(avg_prefs));
+			csvWriter.append(",");
+			csvWriter.append(String.valueOf(avg_computing_time));
+			csvWriter.append(",");
+			csvWriter.append(String.valueOf(avg_verifying_time1));
+			csvWriter.append(",");
+			csvWriter.append(String.valueOf(avg_verifying_time2));
+			csvWriter.append(",");
+			csvWriter.append(String.valueOf(checkString1));
+			csvWriter.append(",");
+			csvWriter.append(String.valueOf(checkString2));
+			csvWriter.append(",");
+		}
+		csvWriter.append(String.valueOf(a_avg_prefSets));
+		csvWriter.append(",");
+		csvWriter.append(String.valueOf(a_avg_prefs));
+		csvWriter.append(",");
+		csvWriter.append(String.valueOf(a_avg_computing_time));
+		csvWriter.append(",");
+		csvWriter.append(String.valueOf(a_avg_verifying_time1));
+		csvWriter.append(",");
+		csvWriter.append(String.valueOf(a_avg_verifying_time2));
+		csvWriter.append(",");
+		csvWriter.append(String.valueOf(a_checkString1));
+		csvWriter.append(",");
+		csvWriter.append(String.valueOf(a_checkString2));
+		csvWriter.append(",");
+		if(sampled)
+		{
+			csvWriter.append(String.valueOf(s_avg_samples));
+			csvWriter.append(",");
+			csvWriter.append(String.valueOf(s_avg_sampling_time));
+			csvWriter.append(",");
+			csvWriter.append(String.valueOf(s_avg_success_rate1));
+			csvWriter.append(",");
+			csvWriter.append(String.valueOf(s_avg_success_rate2));
+			csvWriter.append(",");
+		}
+		csvWriter.append("\n");
+		csvWriter.flush();
+	}
+
+}
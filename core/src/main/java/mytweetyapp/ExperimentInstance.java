@@ -0,0 +1,64 @@
+package mytweetyapp;
+
+/*
+ * One independent experiment task: a framework size, attack probability and semantics, and the seed of
+ * the DefaultDungTheoryGenerator that produces the framework, so every instance can be regenerated on its own.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+
+public class ExperimentInstance {
+
+	private final int size;
+	private final double attackProbability;
+	private final Semantics semantics;
+	private final long seed;
+
+	public ExperimentInstance(int size, double attackProbability, Semantics semantics, long seed)
+	{
+		this.size = size;
+		this.attackProbability = attackProbability;
+		this.semantics = semantics;
+		this.seed = seed;
+	}
+
+	//function to create the instances of one sweep point, with seeds 0..instances-1
+
+	public static List<ExperimentInstance> forPoint(int size, double attackProbability, Semantics semantics, int instances)
+	{
+		List<ExperimentInstance> list = new ArrayList<ExperimentInstance>();
+		for (int i = 0; i < instances; i++)
+			list.add(new ExperimentInstance(size, attackProbability, semantics, i));
+		return list;
+	}
+
+	public int getSize()
+	{
+		return size;
+	}
+
+	public double getAttackProbability()
+	{
+		return attackProbability;
+	}
+
+	public Semantics getSemantics()
+	{
+		return semantics;
+	}
+
+	public long getSeed()
+	{
+		return seed;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "size=" + size + " att_prob=" + attackProbability + " semantics=" + semantics + " seed=" + seed;
+	}
+
+}
@@ -0,0 +1,259 @@
+package mytweetyapp;
+
+/*
+ * Runs experiment instances as independent tasks on a work-stealing ForkJoinPool.
+ * Each task generates its framework from its own seed, regenerating it as the drivers do until the extension is
+ * non-empty and, for preferred and stable semantics, not the only extension. That limit is kept, but the extension
+ * is found and a second one detected with the grounded labelling and SatSession queries instead of enumerating the
+ * extensions: for stable semantics the first model, for preferred semantics the grounded extension grown to a
+ * preferred one. Each task draws the approximate preferences from a SplittableRandom with the same seed, so results do not depend on which worker runs the task, and computes
+ * and verifies the approximate preference set and, for original runs, all preference sets; verification of all preference sets
+ * is split over the same pool and, by default, verifies and counts every set, so the V1/V2 times are full passes as in
+ * earlier results. With earlyExit it stops at the first incorrect set, since only whether all sets are correct is
+ * reported; the V1/V2 times are then the time to the first incorrect set. Results are returned in the order of the
+ * instances, whatever order the tasks finish in.
+ * One ReasonerRegistry is shared by all tasks of the runner, so the reasoners are created once per run and
+ * frameworks that come out the same for several preference sets are evaluated once.
+ * With fused, both methods are verified in one pass that builds the two frameworks of a preference set together,
+ * and the time of the pass is reported for both methods.
+ * The computing time of the original algorithm covers building the preference space, the choice points of all sets;
+ * each set is built while it is verified, so that part is in the V1/V2 times.
+ * With samples, each task also draws that many approximate preference sets with ApproximatePreferenceSampler,
+ * the same sets for both methods, and reports the fraction of them each method verifies as correct.
+ * Times are wall-clock per task, so with several tasks running at once they include contention for cores.
+ */
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.apache.commons.math3.util.Pair;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+import net.sf.tweety.arg.dung.util.DefaultDungTheoryGenerator;
+import net.sf.tweety.arg.dung.util.DungTheoryGenerationParameters;
+
+public class ExperimentRunner {
+
+	private final ForkJoinPool pool;
+	private final boolean original;
+	private final boolean fused;
+	private final boolean earlyExit;
+	private final int samples;
+	private final ReasonerRegistry reasoners = new ReasonerRegistry();
+
+	//runs the original algorithm as well as the approximate one if original is true
+
+	public ExperimentRunner(int parallelism, boolean original)
+	{
+		this(parallelism, original, false, false);
+	}
+
+	//verifies both methods in one pass if fused is true, reporting the shared time for both, and stops the
+	//verification of all preference sets at the first incorrect set if earlyExit is true
+
+	public ExperimentRunner(int parallelism, boolean original, boolean fused, boolean earlyExit)
+	{
+		this(parallelism, original, fused, earlyExit, 0);
+	}
+
+	//also samples that many approximate preference sets per instance if samples is positive
+
+	public ExperimentRunner(int parallelism, boolean original, boolean fused, boolean earlyExit, int samples)
+	{
+		this.pool = new ForkJoinPool(parallelism);
+		this.original = original;
+		this.fused = fused;
+		this.earlyExit = earlyExit;
+		this.samples = samples;
+	}
+
+	public List<InstanceResult> run(List<ExperimentInstance> instances)
+	{
+		List<ForkJoinTask<InstanceResult>> tasks = new ArrayList<ForkJoinTask<InstanceResult>>();
+		for (final ExperimentInstance instance : instances)
+			tasks.add(pool.submit(() -> runInstance(instance)));
+
+		List<InstanceResult> results = new ArrayList<InstanceResult>();
+		for (ForkJoinTask<InstanceResult> task : tasks)
+			results.add(task.join());
+		return results;
+	}
+
+	public void shutdown()
+	{
+		pool.shutdown();
+	}
+
+	//function to generate, compute and verify one instance
+
+	public InstanceResult runInstance(ExperimentInstance instance)
+	{
+		DungTheoryGenerationParameters params = new DungTheoryGenerationParameters();
+		params.numberOfArguments = instance.getSize();
+		params.attackProbability = instance.getAttackProbability();
+		params.enforceTreeShape = false;
+		DefaultDungTheoryGenerator tgen = new DefaultDungTheoryGenerator(params);
+		tgen.setSeed(instance.getSeed());
+
+		Semantics semantics = instance.getSemantics();
+		DungTheory at_example;
+		Set<Argument> ext_set_argument;
+		do {
+			at_example = tgen.next();
+			ext_set_argument = findExtension(new IndexedDungTheory(at_example), semantics);
+		} while(ext_set_argument == null);
+
+		PreferenceLog log = PreferenceLog.get();
+		if(log.isInfoEnabled())
+			log.info(instance + " Maximum Extension: " + ext_set_argument);
+		InstanceResult result = new InstanceResult(instance, at_example.size(), at_example.getAttacks().size(), ext_set_argument.size());
+
+		// code for computing and verifying an approximate preference set
+
+		double a_startTime = milliseconds();
+		EncodedPreferenceSet prefs = ArgumentationPreferences.ComputeApproximatePreferencesEncoded(at_example, ext_set_argument, new SplittableRandom(instance.getSeed()));
+		double a_computing_time = milliseconds() - a_startTime;
+
+		boolean vcheck1, vcheck2;
+		double a_verifying_time1, a_verifying_time2;
+		if(fused)
+		{
+			double a_vstartTime = milliseconds();
+			Pair<Boolean, Boolean> vchecks = ArgumentationPreferences.verifyApproximatePreferences(at_example, prefs, ext_set_argument, semantics, reasoners);
+			a_verifying_time1 = a_verifying_time2 = milliseconds() - a_vstartTime;
+			vcheck1 = vchecks.getFirst();
+			vcheck2 = vchecks.getSecond();
+		}
+		else
+		{
+			double a_vstartTime1 = milliseconds();
+			vcheck1 = ArgumentationPreferences.verifyApproximatePreferences1(at_example, prefs, ext_set_argument, semantics, reasoners);
+			a_verifying_time1 = milliseconds() - a_vstartTime1;
+
+			double a_vstartTime2 = milliseconds();
+			vcheck2 = ArgumentationPreferences.verifyApproximatePreferences2(at_example, prefs, ext_set_argument, semantics, reasoners);
+			a_verifying_time2 = milliseconds() - a_vstartTime2;
+		}
+
+		result.setApproximate(prefs.size(), a_computing_time, a_verifying_time1, a_verifying_time2, vcheck1, vcheck2);
+
+		// code for sampling approximate preference sets, every sample verified with both methods
+
+		if(samples > 0)
+		{
+			ApproximatePreferenceSampler sampler = new ApproximatePreferenceSampler(pool, semantics, reasoners);
+			double s_startTime = milliseconds();
+			SampledPreferences sampled1 = sampler.samplePreferences1(at_example, ext_set_argument, samples, new SplittableRandom(instance.getSeed()), false);
+			SampledPreferences sampled2 = sampler.samplePreferences2(at_example, ext_set_argument, samples, new SplittableRandom(instance.getSeed()), false);
+			double s_sampling_time = milliseconds() - s_startTime;
+			result.setSampled(samples, s_sampling_time, sampled1.getSuccessRate(), sampled2.getSuccessRate());
+		}
+
+		// code for computing and verifying all preference sets
+
+		if(original)
+		{
+			double startTime = milliseconds();
+			PreferenceSetEnumerator prefSets = PreferenceSetEnumerator.forExtension(at_example, ext_set_argument);
+			double computing_time = milliseconds() - startTime;
+			int setSize = prefSets.getEncoded(0).size();
+
+			ParallelPreferenceVerifier verifier = new ParallelPreferenceVerifier(pool, semantics, reasoners);
+			boolean verified1, verified2;
+			double verifying_time1, verifying_time2;
+			if(fused)
+			{
+				double vstartTime = milliseconds();
+				Pair<Boolean, Boolean> verified = verifyAll(verifier, at_example, prefSets, ext_set_argument);
+				verifying_time1 = verifying_time2 = milliseconds() - vstartTime;
+				verified1 = verified.getFirst();
+				verified2 = verified.getSecond();
+			}
+			else
+			{
+				double vstartTime1 = milliseconds();
+				verified1 = verifyAll1(verifier, at_example, prefSets, ext_set_argument);
+				verifying_time1 = milliseconds() - vstartTime1;
+
+				double vstartTime2 = milliseconds();
+				verified2 = verifyAll2(verifier, at_example, prefSets, ext_set_argument);
+				verifying_time2 = milliseconds() - vstartTime2;
+			}
+
+			result.setOriginal(prefSets.count(), setSize, computing_time, verifying_time1, verifying_time2, verified1, verified2);
+		}
+		return result;
+	}
+
+	//whether all preference sets are correct, by counting every set or, with earlyExit, up to the first incorrect one
+
+	private boolean verifyAll1(ParallelPreferenceVerifier verifier, DungTheory at, PreferenceSetEnumerator prefSets, Set<Argument> ext)
+	{
+		if(earlyExit)
+			return verifier.findIncorrectPreferences1(at, prefSets.encoded(), ext) == null;
+		return isAll(verifier.verifyPreferences1(at, prefSets.encoded(), ext), prefSets);
+	}
+
+	private boolean verifyAll2(ParallelPreferenceVerifier verifier, DungTheory at, PreferenceSetEnumerator prefSets, Set<Argument> ext)
+	{
+		if(earlyExit)
+			return verifier.findIncorrectPreferences2(at, prefSets.encoded(), ext) == null;
+		return isAll(verifier.verifyPreferences2(at, prefSets.encoded(), ext), prefSets);
+	}
+
+	private Pair<Boolean, Boolean> verifyAll(ParallelPreferenceVerifier verifier, DungTheory at, PreferenceSetEnumerator prefSets, Set<Argument> ext)
+	{
+		if(earlyExit)
+		{
+			Pair<EncodedPreferenceSet, EncodedPreferenceSet> witnesses = verifier.findIncorrectPreferences(at, prefSets.encoded(), ext);
+			return new Pair<Boolean, Boolean>(witnesses.getFirst() == null, witnesses.getSecond() == null);
+		}
+		Pair<int[], int[]> counts = verifier.verifyPreferences(at, prefSets.encoded(), ext);
+		return new Pair<Boolean, Boolean>(isAll(counts.getFirst(), prefSets), isAll(counts.getSecond(), prefSets));
+	}
+
+	//whether the verified count is every set of the space, compared with count() so no space is too large for it
+
+	private static boolean isAll(int[] counts, PreferenceSetEnumerator prefSets)
+	{
+		return BigInteger.valueOf(counts[0]).equals(prefSets.count());
+	}
+
+	//function to pick the extension of an instance, or null if the framework fails the checks of the drivers:
+	//a non-empty extension, and for preferred and stable semantics at least two extensions, which holds exactly
+	//when the extension found is not the only one
+
+	private static Set<Argument> findExtension(IndexedDungTheory at, Semantics semantics)
+	{
+		if(semantics == Semantics.GROUNDED_SEMANTICS)
+		{
+			long[] grounded = at.getGroundedSolver().getGroundedMask();
+			return IndexedDungTheory.isEmpty(grounded) ? null : at.toArguments(grounded);
+		}
+		SatSession session = at.acquireSatSession(semantics, false);
+		try
+		{
+			long[] ext = session.findExtension(at);
+			if((ext == null) || IndexedDungTheory.isEmpty(ext) || session.isUniqueExtension(at, ext))
+				return null;
+			return at.toArguments(ext);
+		}
+		finally
+		{
+			at.releaseSatSession(session);
+		}
+	}
+
+	private static double milliseconds()
+	{
+		return System.nanoTime() / 1e6;
+	}
+
+}
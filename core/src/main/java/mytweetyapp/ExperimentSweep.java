@@ -0,0 +1,114 @@
+package mytweetyapp;
+
+/*
+ * Runs the full grid of a SweepConfig in one JVM: all instances of all points go to one ExperimentRunner,
+ * and the results are written per point (in semantics, probability, size order) as in the drivers:
+ *   <output>/<semantics>/size<size>/results-prefs-<size>-<prob>.txt
+ *   <output>/<semantics>/size<size>/average-results-prefs-<size>-<prob>.txt
+ *   <output>/<semantics>/results.csv, with the header written when the file is created
+ * Rows are only appended to a results.csv whose header is the one of this run, so a run with the other column set
+ * or other timing options into the same output is refused before it starts.
+ * The log of the config is in use for the duration of the run.
+ */
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+
+public class ExperimentSweep {
+
+	//function to run the sweep, with the original algorithm as well as the approximate one if original is true
+
+	public static void run(SweepConfig config, boolean original) throws IOException
+	{
+		String header = ExperimentAverages.getCsvHeader(original, config.isFused(), config.isEarlyExit(), config.getSamples() > 0);
+		for (Semantics semantics : config.getSemantics())
+			checkCsvHeader(csvFile(new File(config.getOutput()), semantics), header);
+
+		List<ExperimentInstance> instances = new ArrayList<ExperimentInstance>();
+		for (Semantics semantics : config.getSemantics())
+			for (double att_prob : config.getProbabilities())
+				for (int size : config.getSizes())
+					instances.addAll(ExperimentInstance.forPoint(size, att_prob, semantics, config.getInstances()));
+
+		PreferenceTrace trace = (config.getTrace() == null) ? null : new PreferenceTrace(config.getTrace());
+		PreferenceLog log = new PreferenceLog(config.getLog(), trace);
+		PreferenceLog previous = PreferenceLog.get();
+		PreferenceLog.set(log);
+		ExperimentRunner runner = new ExperimentRunner(config.getParallelism(), original, config.isFused(), config.isEarlyExit(), config.getSamples());
+		List<InstanceResult> results;
+		try
+		{
+			results = runner.run(instances);
+		}
+		finally
+		{
+			runner.shutdown();
+			PreferenceLog.set(previous);
+			log.close();
+		}
+
+		for (int i = 0; i < results.size(); i += config.getInstances())
+			writePoint(new File(config.getOutput()), results.subList(i, i + config.getInstances()), config);
+	}
+
+	private static File csvFile(File output, Semantics semantics)
+	{
+		return new File(new File(output, SweepConfig.getName(semantics)), "results.csv");
+	}
+
+	//function to refuse a results.csv written with another header, since the rows of this run would not match it
+
+	private static void checkCsvHeader(File csvFile, String header) throws IOException
+	{
+		if(csvFile.exists() == false)
+			return;
+		String existing;
+		try (BufferedReader reader = new BufferedReader(new FileReader(csvFile)))
+		{
+			existing = reader.readLine();
+		}
+		if((existing != null) && (existing.equals(header) == false))
+			throw new IOException(csvFile + " has the header\n" + existing + "\nbut this run writes\n" + header
+					+ "\nuse another --output or remove the file");
+	}
+
+	private static void writePoint(File output, List<InstanceResult> results, SweepConfig config) throws IOException
+	{
+		ExperimentInstance point = results.get(0).getInstance();
+		int size = point.getSize();
+		File semanticsDir = new File(output, SweepConfig.getName(point.getSemantics()));
+		File sizeDir = new File(semanticsDir, "size" + size);
+		if((sizeDir.isDirectory() == false) && (sizeDir.mkdirs() == false))
+			throw new IOException("Cannot create directory " + sizeDir);
+		String suffix = size + "-" + point.getAttackProbability() + ".txt";
+
+		BufferedWriter resultsFileWriter = new BufferedWriter(new FileWriter(new File(sizeDir, "results-prefs-" + suffix)));
+		for (InstanceResult result : results)
+		{
+			result.write(resultsFileWriter);
+		}
+		resultsFileWriter.close();
+
+		ExperimentAverages averages = new ExperimentAverages(results);
+		BufferedWriter avgresultsFileWriter = new BufferedWriter(new FileWriter(new File(sizeDir, "average-results-prefs-" + suffix)));
+		averages.writeAverages(avgresultsFileWriter);
+		avgresultsFileWriter.close();
+
+		File csvFile = csvFile(output, point.getSemantics());
+		boolean newFile = (csvFile.exists() == false) || (csvFile.length() == 0);
+		FileWriter csvWriter = new FileWriter(csvFile, true);
+		if(newFile)
+			ExperimentAverages.writeCsvHeader(csvWriter, results.get(0).hasOriginal(), config.isFused(), config.isEarlyExit(), results.get(0).hasSampled());
+		averages.writeCsvRow(csvWriter);
+		csvWriter.close();
+	}
+
+}
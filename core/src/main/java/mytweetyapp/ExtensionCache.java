@@ -0,0 +1,132 @@
+package mytweetyapp;
+
+/*
+ * Bounded memo of the extensions of already evaluated frameworks, evicting the least recently used entry.
+ * An entry is keyed by the semantics, the base framework (by identity, so argument ids mean the same
+ * arguments) and the full attack relation of the overlay as attacker bit rows. Many preference sets give
+ * the same relation, e.g. a>b and a=b for a Case 2 pair under attack removal, and are evaluated only once.
+ * All methods are synchronized, so one cache can be shared by the workers of a pool.
+ */
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+
+public class ExtensionCache {
+
+	private final int maxSize;
+	private final LinkedHashMap<Key, Set<Set<Argument>>> entries;
+	private long hits;
+	private long misses;
+
+	public ExtensionCache(final int maxSize)
+	{
+		if(maxSize < 0)
+			throw new IllegalArgumentException("Cache size must not be negative: " + maxSize);
+		this.maxSize = maxSize;
+		this.entries = new LinkedHashMap<Key, Set<Set<Argument>>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Set<Set<Argument>>> eldest)
+			{
+				return size() > maxSize;
+			}
+		};
+	}
+
+	//returns the cached extensions of the overlay under the semantics, or null if they are not cached
+
+	public Set<Set<Argument>> get(DungTheoryOverlay view, Semantics semantics)
+	{
+		//a disabled cache is never filled, so no key is built; a key copies the attack rows, so it is built outside the lock
+		if(maxSize == 0)
+			return null;
+		Key key = new Key(view, semantics);
+		synchronized(this)
+		{
+			Set<Set<Argument>> ext_sets = entries.get(key);
+			if(ext_sets == null)
+				misses++;
+			else
+				hits++;
+			return ext_sets;
+		}
+	}
+
+	//stores the extensions and returns them as an unmodifiable set, since they are handed out to every later caller
+
+	public Set<Set<Argument>> put(DungTheoryOverlay view, Semantics semantics, Set<Set<Argument>> ext_sets)
+	{
+		Set<Set<Argument>> stored = Collections.unmodifiableSet(ext_sets);
+		if(maxSize > 0)
+		{
+			Key key = new Key(view, semantics);
+			synchronized(this)
+			{
+				entries.put(key, stored);
+			}
+		}
+		return stored;
+	}
+
+	public synchronized int size()
+	{
+		return entries.size();
+	}
+
+	public synchronized long getHits()
+	{
+		return hits;
+	}
+
+	public synchronized long getMisses()
+	{
+		return misses;
+	}
+
+	public synchronized void clear()
+	{
+		entries.clear();
+	}
+
+	private static final class Key {
+
+		private final IndexedDungTheory base;
+		private final Semantics semantics;
+		private final long[] attackers;
+		private final int hash;
+
+		Key(DungTheoryOverlay view, Semantics semantics)
+		{
+			this.base = view.getBase();
+			this.semantics = semantics;
+			int words = view.words();
+			this.attackers = new long[view.size() * words];
+			for (int a = 0; a < view.size(); a++)
+				System.arraycopy(view.getAttackers(a), 0, attackers, a * words, words);
+			this.hash = (31 * (31 * System.identityHashCode(base) + semantics.hashCode())) + Arrays.hashCode(attackers);
+		}
+
+		@Override
+		public boolean equals(Object o)
+		{
+			if(!(o instanceof Key))
+				return false;
+			Key other = (Key) o;
+			return (hash == other.hash) && (base == other.base) && (semantics == other.semantics) && Arrays.equals(attackers, other.attackers);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return hash;
+		}
+	}
+
+}
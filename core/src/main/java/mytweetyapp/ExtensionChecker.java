@@ -0,0 +1,143 @@
+package mytweetyapp;
+
+/*
+ * Direct checks that a candidate set is an extension of an indexed framework, without computing the extensions.
+ * Conflict-free, admissible, complete and stable are local conditions on the set and the arguments it attacks,
+ * checked in time linear in the attacks. Grounded compares the set with the grounded labelling, which is also
+ * linear: being a fixpoint of the characteristic function only makes a set complete, not the least complete set.
+ * Preferred needs maximality among the admissible sets, which is one SAT query in SatExtensionSolver.
+ */
+
+import java.util.Arrays;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+
+public class ExtensionChecker {
+
+	//function to check that ext is an extension of the framework, for the semantics that can be checked directly
+
+	public static boolean isExtension(IndexedFramework at, long[] ext, Semantics semantics)
+	{
+		switch(semantics)
+		{
+		case ADMISSIBLE_SEMANTICS:
+			return isAdmissible(at, ext);
+		case COMPLETE_SEMANTICS:
+			return isComplete(at, ext);
+		case STABLE_SEMANTICS:
+			return isStable(at, ext);
+		case GROUNDED_SEMANTICS:
+			return Arrays.equals(GroundedSolver.solve(at), ext);
+		case PREFERRED_SEMANTICS:
+			return SatExtensionSolver.isPreferredExtension(at, ext);
+		default:
+			throw new IllegalArgumentException("No direct check for " + semantics);
+		}
+	}
+
+	//true if no argument of ext attacks an argument of ext
+
+	public static boolean isConflictFree(IndexedFramework at, long[] ext)
+	{
+		return intersects(getAttackedArguments(at, ext), ext) == false;
+	}
+
+	//true if ext is conflict-free and attacks every attacker of its arguments
+
+	public static boolean isAdmissible(IndexedFramework at, long[] ext)
+	{
+		long[] attacked = getAttackedArguments(at, ext);
+		return (intersects(attacked, ext) == false) && isDefended(at, ext, attacked);
+	}
+
+	//true if ext is admissible and contains every argument it defends, i.e. a conflict-free fixpoint of the characteristic function
+
+	public static boolean isComplete(IndexedFramework at, long[] ext)
+	{
+		long[] attacked = getAttackedArguments(at, ext);
+		if(intersects(attacked, ext))
+			return false;
+		for (int a = 0; a < at.size(); a++)
+		{
+			if(IndexedDungTheory.contains(ext, a) != isDefended(at.getAttackers(a), attacked))
+				return false;
+		}
+		return true;
+	}
+
+	//true if ext is conflict-free and attacks every argument outside it
+
+	public static boolean isStable(IndexedFramework at, long[] ext)
+	{
+		long[] attacked = getAttackedArguments(at, ext);
+		if(intersects(attacked, ext))
+			return false;
+		for (int a = 0; a < at.size(); a++)
+		{
+			if((IndexedDungTheory.contains(ext, a) == false) && (IndexedDungTheory.contains(attacked, a) == false))
+				return false;
+		}
+		return true;
+	}
+
+	//function to get the characteristic function of the framework on ext: the arguments all of whose attackers ext attacks
+
+	public static long[] getDefendedArguments(IndexedFramework at, long[] ext)
+	{
+		long[] attacked = getAttackedArguments(at, ext);
+		long[] defended = new long[at.words()];
+		for (int a = 0; a < at.size(); a++)
+		{
+			if(isDefended(at.getAttackers(a), attacked))
+				IndexedDungTheory.set(defended, a);
+		}
+		return defended;
+	}
+
+	//union of the attacked rows of the arguments of ext
+
+	public static long[] getAttackedArguments(IndexedFramework at, long[] ext)
+	{
+		long[] attacked = new long[at.words()];
+		for (int a = IndexedDungTheory.nextSetBit(ext, 0); a >= 0; a = IndexedDungTheory.nextSetBit(ext, a + 1))
+		{
+			long[] row = at.getAttacked(a);
+			for (int w = 0; w < row.length; w++)
+				attacked[w] |= row[w];
+		}
+		return attacked;
+	}
+
+	private static boolean isDefended(IndexedFramework at, long[] ext, long[] attacked)
+	{
+		for (int a = IndexedDungTheory.nextSetBit(ext, 0); a >= 0; a = IndexedDungTheory.nextSetBit(ext, a + 1))
+		{
+			if(isDefended(at.getAttackers(a), attacked) == false)
+				return false;
+		}
+		return true;
+	}
+
+	//true if every attacker is among the attacked arguments
+
+	private static boolean isDefended(long[] attackers, long[] attacked)
+	{
+		for (int w = 0; w < attackers.length; w++)
+		{
+			if((attackers[w] & ~attacked[w]) != 0)
+				return false;
+		}
+		return true;
+	}
+
+	private static boolean intersects(long[] mask1, long[] mask2)
+	{
+		for (int w = 0; w < mask1.length; w++)
+		{
+			if((mask1[w] & mask2[w]) != 0)
+				return true;
+		}
+		return false;
+	}
+
+}
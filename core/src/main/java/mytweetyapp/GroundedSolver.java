@@ -0,0 +1,177 @@
+package mytweetyapp;
+
+/*
+ * Grounded semantics on an indexed framework by attacker-count propagation: an argument is IN once all its
+ * attackers are OUT and OUT once one attacker is IN, which labels the framework in time linear in the attacks.
+ * A solver keeps the labelling of its base framework; for an overlay of that base only the arguments reachable
+ * from the targets of the changed attacks can change label, so only that region is labelled again.
+ */
+
+import java.util.Set;
+
+import net.sf.tweety.arg.dung.syntax.Argument;
+
+public class GroundedSolver {
+
+	private final IndexedDungTheory base;
+	private final long[] in;
+	private final long[] out;
+
+	public GroundedSolver(IndexedDungTheory base)
+	{
+		this.base = base;
+		this.in = new long[base.words()];
+		this.out = new long[base.words()];
+		label(base, all(base), in, out);
+	}
+
+	public IndexedDungTheory getBase()
+	{
+		return base;
+	}
+
+	public Set<Argument> getGroundedExtension()
+	{
+		return base.toArguments(in);
+	}
+
+	public long[] getGroundedMask()
+	{
+		return in.clone();
+	}
+
+	//function to compute the grounded extension of an overlay of the base, relabelling only what the changed attacks can reach
+
+	public long[] solve(DungTheoryOverlay view)
+	{
+		if(view.getBase() != base)
+			throw new IllegalArgumentException("Overlay is not built on the base framework of this solver");
+		if(view.isUnchanged())
+			return in.clone();
+
+		long[] region = reachable(view, view.getChangedTargets());
+		long[] viewIn = new long[in.length];
+		long[] viewOut = new long[out.length];
+		for (int w = 0; w < in.length; w++)
+		{
+			viewIn[w] = in[w] & ~region[w];
+			viewOut[w] = out[w] & ~region[w];
+		}
+		label(view, region, viewIn, viewOut);
+		return viewIn;
+	}
+
+	//function to compute the grounded extension of any indexed framework from scratch
+
+	public static long[] solve(IndexedFramework at)
+	{
+		long[] in = new long[at.words()];
+		long[] out = new long[at.words()];
+		label(at, all(at), in, out);
+		return in;
+	}
+
+	//labels the arguments of region, given the final labels of all arguments outside it
+
+	private static void label(IndexedFramework at, long[] region, long[] in, long[] out)
+	{
+		int n = at.size();
+		int[] count = new int[n];
+		int[] queue = new int[n];
+		int head = 0;
+		int tail = 0;
+
+		//count the attackers that are not OUT
+		for (int a = IndexedDungTheory.nextSetBit(region, 0); a >= 0; a = IndexedDungTheory.nextSetBit(region, a + 1))
+		{
+			long[] attackers = at.getAttackers(a);
+			for (int w = 0; w < attackers.length; w++)
+				count[a] += Long.bitCount(attackers[w] & ~out[w]);
+		}
+
+		//arguments attacked by an IN argument outside the region are OUT at once
+		for (int a = IndexedDungTheory.nextSetBit(region, 0); a >= 0; a = IndexedDungTheory.nextSetBit(region, a + 1))
+		{
+			long[] attackers = at.getAttackers(a);
+			for (int w = 0; w < attackers.length; w++)
+			{
+				if((attackers[w] & in[w]) != 0)
+				{
+					IndexedDungTheory.set(out, a);
+					queue[tail++] = a;
+					break;
+				}
+			}
+		}
+		for (int a = IndexedDungTheory.nextSetBit(region, 0); a >= 0; a = IndexedDungTheory.nextSetBit(region, a + 1))
+		{
+			if((count[a] == 0) && (IndexedDungTheory.contains(out, a) == false))
+			{
+				IndexedDungTheory.set(in, a);
+				queue[tail++] = a;
+			}
+		}
+
+		while (head < tail)
+		{
+			int x = queue[head++];
+			long[] attacked = at.getAttacked(x);
+			boolean xIn = IndexedDungTheory.contains(in, x);
+			for (int w = 0; w < attacked.length; w++)
+			{
+				long targets = attacked[w] & region[w] & ~out[w];
+				while (targets != 0)
+				{
+					int c = (w << 6) + Long.numberOfTrailingZeros(targets);
+					targets &= targets - 1;
+					if(xIn)
+					{
+						IndexedDungTheory.set(out, c);
+						queue[tail++] = c;
+					}
+					else if((--count[c] == 0) && (IndexedDungTheory.contains(in, c) == false))
+					{
+						IndexedDungTheory.set(in, c);
+						queue[tail++] = c;
+					}
+				}
+			}
+		}
+	}
+
+	//forward closure of the start arguments over the attacks of the framework
+
+	private static long[] reachable(IndexedFramework at, long[] start)
+	{
+		long[] seen = start.clone();
+		int[] queue = new int[at.size()];
+		int head = 0;
+		int tail = 0;
+		for (int a = IndexedDungTheory.nextSetBit(start, 0); a >= 0; a = IndexedDungTheory.nextSetBit(start, a + 1))
+			queue[tail++] = a;
+		while (head < tail)
+		{
+			long[] attacked = at.getAttacked(queue[head++]);
+			for (int w = 0; w < attacked.length; w++)
+			{
+				long next = attacked[w] & ~seen[w];
+				seen[w] |= next;
+				while (next != 0)
+				{
+					queue[tail++] = (w << 6) + Long.numberOfTrailingZeros(next);
+					next &= next - 1;
+				}
+			}
+		}
+		return seen;
+	}
+
+	private static long[] all(IndexedFramework at)
+	{
+		long[] mask = new long[at.words()];
+		for (int a = 0; a < at.size(); a++)
+			IndexedDungTheory.set(mask, a);
+		return mask;
+	}
+
+}
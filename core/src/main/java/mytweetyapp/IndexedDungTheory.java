@@ -0,0 +1,300 @@
+package mytweetyapp;
+
+/*
+ * Frozen, indexed view of a DungTheory for the preference hot loops.
+ * Arguments are numbered 0..n-1 and the attack relation is stored as attacker and attacked
+ * bit rows (one long per 64 arguments), so the check* helpers can work with word-parallel AND/OR
+ * instead of calling isAttackedBy/getAttackers on the tweety object graph.
+ * The view is built once per framework and is not updated if the DungTheory changes afterwards.
+ */
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.Attack;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class IndexedDungTheory implements IndexedFramework {
+
+	private final Argument[] arguments;
+	private final Map<Argument, Integer> index;
+	private final long[][] attackers;
+	private final long[][] attacked;
+	private final long[] unattacked;
+	private final int numberOfAttacks;
+	private volatile GroundedSolver groundedSolver;
+	private volatile SccDecomposition sccDecomposition;
+	//idle SAT sessions, by semantics and whether they allow reversed attacks
+	private final SessionPool preferredSessions = new SessionPool();
+	private final SessionPool stableSessions = new SessionPool();
+	private final SessionPool reversiblePreferredSessions = new SessionPool();
+	private final SessionPool reversibleStableSessions = new SessionPool();
+
+	public IndexedDungTheory(DungTheory at)
+	{
+		int n = at.size();
+		arguments = new Argument[n];
+		index = new HashMap<Argument, Integer>();
+		int id = 0;
+		for (Argument a : at)
+		{
+			arguments[id] = a;
+			index.put(a, id);
+			id++;
+		}
+
+		int words = words(n);
+		attackers = new long[n][words];
+		attacked = new long[n][words];
+		int count = 0;
+		for (Attack attack : at.getAttacks())
+		{
+			int b = index.get(attack.getAttacker());
+			int a = index.get(attack.getAttacked());
+			set(attackers[a], b);
+			set(attacked[b], a);
+			count++;
+		}
+		numberOfAttacks = count;
+
+		unattacked = new long[words];
+		for (int a = 0; a < n; a++)
+		{
+			if(isEmpty(attackers[a]))
+				set(unattacked, a);
+		}
+	}
+
+	@Override
+	public int size()
+	{
+		return arguments.length;
+	}
+
+	@Override
+	public int words()
+	{
+		return words(arguments.length);
+	}
+
+	@Override
+	public int getNumberOfAttacks()
+	{
+		return numberOfAttacks;
+	}
+
+	@Override
+	public Argument getArgument(int id)
+	{
+		return arguments[id];
+	}
+
+	@Override
+	public int indexOf(Argument a)
+	{
+		Integer id = index.get(a);
+		return (id == null) ? -1 : id;
+	}
+
+	@Override
+	public long[] getAttackers(int a)
+	{
+		return attackers[a];
+	}
+
+	@Override
+	public long[] getAttacked(int a)
+	{
+		return attacked[a];
+	}
+
+	@Override
+	public long[] getUnattacked()
+	{
+		return unattacked;
+	}
+
+	@Override
+	public boolean isAttackedBy(int a, int b)
+	{
+		return contains(attackers[a], b);
+	}
+
+	@Override
+	public long[] toMask(Collection<Argument> args)
+	{
+		long[] mask = new long[words()];
+		for (Argument a : args)
+		{
+			int id = indexOf(a);
+			if(id >= 0)
+				set(mask, id);
+		}
+		return mask;
+	}
+
+	@Override
+	public Set<Argument> toArguments(long[] mask)
+	{
+		Set<Argument> args = new HashSet<Argument>();
+		for (int a = nextSetBit(mask, 0); a >= 0; a = nextSetBit(mask, a + 1))
+		{
+			args.add(arguments[a]);
+		}
+		return args;
+	}
+
+	//grounded labelling of this framework, computed once and reused for every overlay built on it
+
+	public GroundedSolver getGroundedSolver()
+	{
+		GroundedSolver solver = groundedSolver;
+		if(solver == null)
+		{
+			solver = new GroundedSolver(this);
+			groundedSolver = solver;
+		}
+		return solver;
+	}
+
+	//strongly connected components of this framework, computed once
+
+	public SccDecomposition getSccDecomposition()
+	{
+		SccDecomposition sccs = sccDecomposition;
+		if(sccs == null)
+		{
+			sccs = new SccDecomposition(this);
+			sccDecomposition = sccs;
+		}
+		return sccs;
+	}
+
+	//SAT session of this framework for preferred or stable semantics, reused for every overlay built on it;
+	//a reversible session also allows the reverse of every attack. A session serves one thread at a time, so
+	//a caller takes one and hands it back with releaseSatSession, and a new one is only encoded when all are in use.
+	//At most one idle session per thread that can use them is kept: the parallelism of the calling fork-join pool,
+	//or the number of processors outside a pool; a session handed back beyond that is dropped
+
+	public SatSession acquireSatSession(Semantics semantics, boolean reversible)
+	{
+		SatSession session = sessions(semantics, reversible).poll();
+		return (session != null) ? session : new SatSession(this, semantics, reversible);
+	}
+
+	public void releaseSatSession(SatSession session)
+	{
+		if(session.getBase() != this)
+			throw new IllegalArgumentException("Session is not built on this framework");
+		sessions(session.getSemantics(), session.isReversible()).offer(session, maxIdleSessions());
+	}
+
+	private static int maxIdleSessions()
+	{
+		ForkJoinPool pool = ForkJoinTask.getPool();
+		return (pool != null) ? pool.getParallelism() : Runtime.getRuntime().availableProcessors();
+	}
+
+	private SessionPool sessions(Semantics semantics, boolean reversible)
+	{
+		if(semantics == Semantics.STABLE_SEMANTICS)
+			return reversible ? reversibleStableSessions : stableSessions;
+		return reversible ? reversiblePreferredSessions : preferredSessions;
+	}
+
+	// bit helpers for rows and masks
+
+	public static int words(int n)
+	{
+		return (n + 63) >>> 6;
+	}
+
+	public static boolean contains(long[] mask, int a)
+	{
+		return (mask[a >>> 6] & (1L << a)) != 0;
+	}
+
+	public static void set(long[] mask, int a)
+	{
+		mask[a >>> 6] |= 1L << a;
+	}
+
+	public static void clear(long[] mask, int a)
+	{
+		mask[a >>> 6] &= ~(1L << a);
+	}
+
+	public static boolean isEmpty(long[] mask)
+	{
+		for (long word : mask)
+		{
+			if(word != 0)
+				return false;
+		}
+		return true;
+	}
+
+	public static int cardinality(long[] mask)
+	{
+		int count = 0;
+		for (long word : mask)
+		{
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	//returns the first set bit at or after from, or -1 if there is none
+
+	public static int nextSetBit(long[] mask, int from)
+	{
+		int w = from >>> 6;
+		if(w >= mask.length)
+			return -1;
+		long word = mask[w] & (-1L << from);
+		while (true)
+		{
+			if(word != 0)
+				return (w << 6) + Long.numberOfTrailingZeros(word);
+			if(++w == mask.length)
+				return -1;
+			word = mask[w];
+		}
+	}
+
+	//idle sessions of one kind; the count is taken before a session is queued, so it never exceeds the cap,
+	//and given back after one is taken
+
+	private static final class SessionPool {
+
+		private final Queue<SatSession> sessions = new ConcurrentLinkedQueue<SatSession>();
+		private final AtomicInteger idle = new AtomicInteger();
+
+		SatSession poll()
+		{
+			SatSession session = sessions.poll();
+			if(session != null)
+				idle.decrementAndGet();
+			return session;
+		}
+
+		void offer(SatSession session, int max)
+		{
+			if(idle.incrementAndGet() <= max)
+				sessions.offer(session);
+			else
+				idle.decrementAndGet();
+		}
+	}
+
+}
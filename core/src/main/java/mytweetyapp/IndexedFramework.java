@@ -0,0 +1,42 @@
+package mytweetyapp;
+
+/*
+ * Read access to an argumentation framework with arguments numbered 0..n-1 and the attack
+ * relation as bit rows. Implemented by the frozen IndexedDungTheory and by DungTheoryOverlay,
+ * so the check helpers and the reasoners run on either without copying a DungTheory.
+ */
+
+import java.util.Collection;
+import java.util.Set;
+
+import net.sf.tweety.arg.dung.syntax.Argument;
+
+public interface IndexedFramework {
+
+	public int size();
+
+	//number of longs in a row or mask of this framework
+	public int words();
+
+	public int getNumberOfAttacks();
+
+	public Argument getArgument(int id);
+
+	//returns the id of the argument, or -1 if it is not in the framework
+	public int indexOf(Argument a);
+
+	//rows are owned by the framework and must not be modified by callers
+	public long[] getAttackers(int a);
+
+	public long[] getAttacked(int a);
+
+	public long[] getUnattacked();
+
+	//true if a is attacked by b
+	public boolean isAttackedBy(int a, int b);
+
+	public long[] toMask(Collection<Argument> args);
+
+	public Set<Argument> toArguments(long[] mask);
+
+}
@@ -0,0 +1,224 @@
+package mytweetyapp;
+
+/*
+ * Measurements of one experiment instance: the generated framework and extension, and the counts, times
+ * (in milliseconds) and verification checks of the approximate and, if it was run, the original algorithm, and
+ * the success rates of best-of-N sampling if samples were drawn.
+ */
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigInteger;
+
+public class InstanceResult {
+
+	private final ExperimentInstance instance;
+	private final int numberOfArguments;
+	private final int numberOfAttacks;
+	private final int extensionSize;
+
+	//original algorithm, only set if it was run
+	private boolean original;
+	private BigInteger numberOfPreferenceSets;
+	private int numberOfPreferences;
+	private double computingTime;
+	private double verifyingTime1;
+	private double verifyingTime2;
+	private boolean check1;
+	private boolean check2;
+
+	//approximate algorithm
+	private int a_numberOfPreferences;
+	private double a_computingTime;
+	private double a_verifyingTime1;
+	private double a_verifyingTime2;
+	private boolean a_check1;
+	private boolean a_check2;
+
+	//best-of-N sampling of approximate preferences, only set if samples were drawn
+	private int s_samples;
+	private double s_samplingTime;
+	private double s_successRate1;
+	private double s_successRate2;
+
+	public InstanceResult(ExperimentInstance instance, int numberOfArguments, int numberOfAttacks, int extensionSize)
+	{
+		this.instance = instance;
+		this.numberOfArguments = numberOfArguments;
+		this.numberOfAttacks = numberOfAttacks;
+		this.extensionSize = extensionSize;
+	}
+
+	public void setOriginal(BigInteger numberOfPreferenceSets, int numberOfPreferences, double computingTime,
+			double verifyingTime1, double verifyingTime2, boolean check1, boolean check2)
+	{
+		this.original = true;
+		this.numberOfPreferenceSets = numberOfPreferenceSets;
+		this.numberOfPreferences = numberOfPreferences;
+		this.computingTime = computingTime;
+		this.verifyingTime1 = verifyingTime1;
+		this.verifyingTime2 = verifyingTime2;
+		this.check1 = check1;
+		this.check2 = check2;
+	}
+
+	public void setApproximate(int numberOfPreferences, double computingTime, double verifyingTime1, double verifyingTime2,
+			boolean check1, boolean check2)
+	{
+		this.a_numberOfPreferences = numberOfPreferences;
+		this.a_computingTime = computingTime;
+		this.a_verifyingTime1 = verifyingTime1;
+		this.a_verifyingTime2 = verifyingTime2;
+		this.a_check1 = check1;
+		this.a_check2 = check2;
+	}
+
+	public void setSampled(int samples, double samplingTime, double successRate1, double successRate2)
+	{
+		this.s_samples = samples;
+		this.s_samplingTime = samplingTime;
+		this.s_successRate1 = successRate1;
+		this.s_successRate2 = successRate2;
+	}
+
+	//function to write the per instance lines of the results file
+
+	public void write(BufferedWriter resultsFileWriter) throws IOException
+	{
+		resultsFileWriter.write("Number of arguments in AAF:" + numberOfArguments);
+		resultsFileWriter.newLine();
+		resultsFileWriter.write("Preferred extension size:"+ extensionSize);
+		resultsFileWriter.newLine();
+		resultsFileWriter.write("Attack Probability:" + instance.getAttackProbability());
+		resultsFileWriter.newLine();
+		resultsFileWriter.write("Number of attacks in AAF:" + numberOfAttacks);
+		resultsFileWriter.newLine();
+		if(hasSampled())
+		{
+			resultsFileWriter.write("Sampled approximate preference sets: " + s_samples);
+			resultsFileWriter.newLine();
+			resultsFileWriter.write("Sampling time in milliseconds: " + s_samplingTime);
+			resultsFileWriter.newLine();
+			resultsFileWriter.write("Success rate 1 (attack removal): " + s_successRate1);
+			resultsFileWriter.newLine();
+			resultsFileWriter.write("Success rate 2 (attack reversal): " + s_successRate2);
+			resultsFileWriter.newLine();
+		}
+	}
+
+	public ExperimentInstance getInstance()
+	{
+		return instance;
+	}
+
+	public int getNumberOfArguments()
+	{
+		return numberOfArguments;
+	}
+
+	public int getNumberOfAttacks()
+	{
+		return numberOfAttacks;
+	}
+
+	public int getExtensionSize()
+	{
+		return extensionSize;
+	}
+
+	public boolean hasOriginal()
+	{
+		return original;
+	}
+
+	public BigInteger getNumberOfPreferenceSets()
+	{
+		return numberOfPreferenceSets;
+	}
+
+	public int getNumberOfPreferences()
+	{
+		return numberOfPreferences;
+	}
+
+	public double getComputingTime()
+	{
+		return computingTime;
+	}
+
+	public double getVerifyingTime1()
+	{
+		return verifyingTime1;
+	}
+
+	public double getVerifyingTime2()
+	{
+		return verifyingTime2;
+	}
+
+	public boolean getCheck1()
+	{
+		return check1;
+	}
+
+	public boolean getCheck2()
+	{
+		return check2;
+	}
+
+	public int getApproximateNumberOfPreferences()
+	{
+		return a_numberOfPreferences;
+	}
+
+	public double getApproximateComputingTime()
+	{
+		return a_computingTime;
+	}
+
+	public double getApproximateVerifyingTime1()
+	{
+		return a_verifyingTime1;
+	}
+
+	public double getApproximateVerifyingTime2()
+	{
+		return a_verifyingTime2;
+	}
+
+	public boolean getApproximateCheck1()
+	{
+		return a_check1;
+	}
+
+	public boolean getApproximateCheck2()
+	{
+		return a_check2;
+	}
+
+	public boolean hasSampled()
+	{
+		return s_samples > 0;
+	}
+
+	public int getNumberOfSamples()
+	{
+		return s_samples;
+	}
+
+	public double getSamplingTime()
+	{
+		return s_samplingTime;
+	}
+
+	public double getSuccessRate1()
+	{
+		return s_successRate1;
+	}
+
+	public double getSuccessRate2()
+	{
+		return s_successRate2;
+	}
+
+}
@@ -0,0 +1,50 @@
+package mytweetyapp;
+
+/*
+ * Extensions of a DungTheoryOverlay.
+ * The grounded extension is computed by the GroundedSolver of the base framework, which only relabels
+ * the arguments the changed attacks can reach; the other semantics go through the tweety reasoner on
+ * a copy of the overlay.
+ */
+
+import java.util.HashSet;
+import java.util.Set;
+
+import net.sf.tweety.arg.dung.reasoner.AbstractExtensionReasoner;
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+
+public class OverlayReasoner {
+
+	//function to compute the extensions of the overlay, in the form returned by collectionToSet
+
+	public static Set<Set<Argument>> getModels(DungTheoryOverlay view, Semantics semantics)
+	{
+		AbstractExtensionReasoner reasoner = (semantics == Semantics.GROUNDED_SEMANTICS) ? null : AbstractExtensionReasoner.getSimpleReasonerForSemantics(semantics);
+		return getModels(view, semantics, reasoner);
+	}
+
+	//the same with the tweety reasoner for the semantics given by the caller, which is not used for grounded semantics
+
+	public static Set<Set<Argument>> getModels(DungTheoryOverlay view, Semantics semantics, AbstractExtensionReasoner reasoner)
+	{
+		if(semantics == Semantics.GROUNDED_SEMANTICS)
+		{
+			Set<Set<Argument>> ext_sets = new HashSet<Set<Argument>>();
+			ext_sets.add(getGroundedExtension(view));
+			return ext_sets;
+		}
+		return ArgumentationPreferences.collectionToSet(reasoner.getModels(view.toDungTheory()));
+	}
+
+	public static Set<Argument> getGroundedExtension(DungTheoryOverlay view)
+	{
+		return view.toArguments(view.getBase().getGroundedSolver().solve(view));
+	}
+
+	public static Set<Argument> getGroundedExtension(IndexedFramework at)
+	{
+		return at.toArguments(GroundedSolver.solve(at));
+	}
+
+}
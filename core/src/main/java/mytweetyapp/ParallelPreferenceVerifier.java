@@ -0,0 +1,284 @@
+package mytweetyapp;
+
+/*
+ * Parallel versions of verifyPreferences1 (attack removal) and verifyPreferences2 (attack reversal).
+ * The preference sets are split with fork-join tasks and every set is checked on its own DungTheoryOverlay
+ * of the unmodified input, so the input framework is never mutated; the only state workers share is the
+ * ReasonerRegistry with its synchronized extension cache.
+ * The four counts are merged with LongAdders and are the same as the serial counts.
+ * findIncorrectPreferences1/2 stop at the first set that does not give ext as the only extension: the set is
+ * published as the witness, and tasks that have not started are cancelled while running ones stop at their next set.
+ * verifyPreferences and findIncorrectPreferences check both methods in one pass, building the two frameworks of a set
+ * together; the fused search stops once both methods have a witness.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.math3.util.Pair;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class ParallelPreferenceVerifier {
+
+	private final ForkJoinPool pool;
+	private final Semantics semantics;
+	private final ReasonerRegistry reasoners;
+	private final boolean ownsPool;
+
+	public ParallelPreferenceVerifier(int parallelism)
+	{
+		this(parallelism, Semantics.GROUNDED_SEMANTICS);
+	}
+
+	public ParallelPreferenceVerifier(int parallelism, Semantics semantics)
+	{
+		this.pool = new ForkJoinPool(parallelism);
+		this.semantics = semantics;
+		this.reasoners = new ReasonerRegistry();
+		this.ownsPool = true;
+	}
+
+	//runs on a pool owned by the caller, which is not shut down by this verifier
+
+	public ParallelPreferenceVerifier(ForkJoinPool pool, Semantics semantics)
+	{
+		this(pool, semantics, new ReasonerRegistry());
+	}
+
+	//runs on a pool owned by the caller with the reasoners and extension cache of the caller's run
+
+	public ParallelPreferenceVerifier(ForkJoinPool pool, Semantics semantics, ReasonerRegistry reasoners)
+	{
+		this.pool = pool;
+		this.semantics = semantics;
+		this.reasoners = reasoners;
+		this.ownsPool = false;
+	}
+
+	//function for verifying preferences using attack removal method
+
+	public int[] verifyPreferences1(DungTheory at, Iterable<EncodedPreferenceSet> prefSets, Set<Argument> ext)
+	{
+		return verify(at, prefSets, ext, true, false).getFirst();
+	}
+
+	//function for verifying preferences using attack reversal method
+
+	public int[] verifyPreferences2(DungTheory at, Iterable<EncodedPreferenceSet> prefSets, Set<Argument> ext)
+	{
+		return verify(at, prefSets, ext, false, true).getSecond();
+	}
+
+	//function for verifying preferences with both methods in one pass, returning the counts of attack removal and of attack reversal
+
+	public Pair<int[], int[]> verifyPreferences(DungTheory at, Iterable<EncodedPreferenceSet> prefSets, Set<Argument> ext)
+	{
+		return verify(at, prefSets, ext, true, true);
+	}
+
+	//function to find a preference set that is incorrect under attack removal, or null if all sets are correct
+
+	public EncodedPreferenceSet findIncorrectPreferences1(DungTheory at, Iterable<EncodedPreferenceSet> prefSets, Set<Argument> ext)
+	{
+		return find(at, prefSets, ext, true, false).getFirst();
+	}
+
+	//function to find a preference set that is incorrect under attack reversal, or null if all sets are correct
+
+	public EncodedPreferenceSet findIncorrectPreferences2(DungTheory at, Iterable<EncodedPreferenceSet> prefSets, Set<Argument> ext)
+	{
+		return find(at, prefSets, ext, false, true).getSecond();
+	}
+
+	//function to find incorrect preference sets under attack removal and under attack reversal in one pass,
+	//each null if all sets are correct for that method
+
+	public Pair<EncodedPreferenceSet, EncodedPreferenceSet> findIncorrectPreferences(DungTheory at, Iterable<EncodedPreferenceSet> prefSets, Set<Argument> ext)
+	{
+		return find(at, prefSets, ext, true, true);
+	}
+
+	public void shutdown()
+	{
+		if(ownsPool)
+			pool.shutdown();
+	}
+
+	private Pair<int[], int[]> verify(DungTheory at, Iterable<EncodedPreferenceSet> prefSets, Set<Argument> ext, boolean removal, boolean reversal)
+	{
+		Spliterator<EncodedPreferenceSet> spliterator = prefSets.spliterator();
+		LongAdder[][] counts = new LongAdder[2][4];
+		for (LongAdder[] methodCounts : counts)
+		{
+			for (int i = 0; i < methodCounts.length; i++)
+				methodCounts[i] = new LongAdder();
+		}
+		run(new VerifyTask(ext, removal, reversal, spliterator, threshold(spliterator), counts));
+		return new Pair<int[], int[]>(removal ? toArray(counts[0]) : null, reversal ? toArray(counts[1]) : null);
+	}
+
+	private Pair<EncodedPreferenceSet, EncodedPreferenceSet> find(DungTheory at, Iterable<EncodedPreferenceSet> prefSets, Set<Argument> ext, boolean removal, boolean reversal)
+	{
+		Spliterator<EncodedPreferenceSet> spliterator = prefSets.spliterator();
+		AtomicReference<EncodedPreferenceSet> witness1 = removal ? new AtomicReference<EncodedPreferenceSet>() : null;
+		AtomicReference<EncodedPreferenceSet> witness2 = reversal ? new AtomicReference<EncodedPreferenceSet>() : null;
+		run(new FindTask(ext, spliterator, threshold(spliterator), witness1, witness2));
+		return new Pair<EncodedPreferenceSet, EncodedPreferenceSet>(removal ? witness1.get() : null, reversal ? witness2.get() : null);
+	}
+
+	private static int[] toArray(LongAdder[] counts)
+	{
+		int[] countArray = new int[counts.length];
+		for (int i = 0; i < counts.length; i++)
+			countArray[i] = counts[i].intValue();
+		return countArray;
+	}
+
+	private long threshold(Spliterator<EncodedPreferenceSet> spliterator)
+	{
+		long size = spliterator.estimateSize();
+		return (size == Long.MAX_VALUE) ? 1 : Math.max(1, size / (8L * pool.getParallelism()));
+	}
+
+	private void run(ForkJoinTask<?> task)
+	{
+		//called from a task of the same pool (as by ExperimentRunner) the task runs in place and its subtasks are stolen by idle workers
+		if(ForkJoinTask.getPool() == pool)
+			task.invoke();
+		else
+			pool.invoke(task);
+	}
+
+	private class VerifyTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Set<Argument> ext;
+		private final boolean removal;
+		private final boolean reversal;
+		private final Spliterator<EncodedPreferenceSet> spliterator;
+		private final long threshold;
+		private final LongAdder[][] counts;
+
+		VerifyTask(Set<Argument> ext, boolean removal, boolean reversal, Spliterator<EncodedPreferenceSet> spliterator, long threshold, LongAdder[][] counts)
+		{
+			this.ext = ext;
+			this.removal = removal;
+			this.reversal = reversal;
+			this.spliterator = spliterator;
+			this.threshold = threshold;
+			this.counts = counts;
+		}
+
+		@Override
+		protected void compute()
+		{
+			List<VerifyTask> forked = new ArrayList<VerifyTask>();
+			Spliterator<EncodedPreferenceSet> prefix;
+			while ((spliterator.estimateSize() > threshold) && ((prefix = spliterator.trySplit()) != null))
+			{
+				VerifyTask task = new VerifyTask(ext, removal, reversal, prefix, threshold, counts);
+				task.fork();
+				forked.add(task);
+			}
+
+			final int[][] local = new int[counts.length][counts[0].length];
+			spliterator.forEachRemaining(prefs -> {
+				int[] categories = ArgumentationPreferences.classifyPreferenceSet(prefs, ext, semantics, reasoners, removal, reversal);
+				for (int m = 0; m < categories.length; m++)
+				{
+					if(categories[m] >= 0)
+						local[m][categories[m]]++;
+				}
+			});
+			for (int m = 0; m < local.length; m++)
+			{
+				for (int i = 0; i < local[m].length; i++)
+					counts[m][i].add(local[m][i]);
+			}
+
+			for (VerifyTask task : forked)
+				task.join();
+		}
+	}
+
+	//a witness reference is null for a method that is not checked
+
+	private class FindTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Set<Argument> ext;
+		private final Spliterator<EncodedPreferenceSet> spliterator;
+		private final long threshold;
+		private final AtomicReference<EncodedPreferenceSet> witness1;
+		private final AtomicReference<EncodedPreferenceSet> witness2;
+
+		FindTask(Set<Argument> ext, Spliterator<EncodedPreferenceSet> spliterator, long threshold,
+				AtomicReference<EncodedPreferenceSet> witness1, AtomicReference<EncodedPreferenceSet> witness2)
+		{
+			this.ext = ext;
+			this.spliterator = spliterator;
+			this.threshold = threshold;
+			this.witness1 = witness1;
+			this.witness2 = witness2;
+		}
+
+		@Override
+		protected void compute()
+		{
+			List<FindTask> forked = new ArrayList<FindTask>();
+			Spliterator<EncodedPreferenceSet> prefix;
+			while ((hasWitnesses() == false) && (spliterator.estimateSize() > threshold) && ((prefix = spliterator.trySplit()) != null))
+			{
+				FindTask task = new FindTask(ext, prefix, threshold, witness1, witness2);
+				task.fork();
+				forked.add(task);
+			}
+
+			boolean more = true;
+			while (more && (hasWitnesses() == false))
+			{
+				more = spliterator.tryAdvance(prefs -> {
+					boolean check1 = isOpen(witness1);
+					boolean check2 = isOpen(witness2);
+					boolean[] correct = ArgumentationPreferences.verifyPreferenceSet(prefs, ext, semantics, reasoners, check1, check2);
+					if(check1 && (correct[0] == false))
+						witness1.compareAndSet(null, prefs);
+					if(check2 && (correct[1] == false))
+						witness2.compareAndSet(null, prefs);
+				});
+			}
+
+			for (FindTask task : forked)
+			{
+				if(hasWitnesses())
+					task.cancel(false);
+				task.quietlyJoin();
+			}
+		}
+
+		//true once every method checked has a witness
+
+		private boolean hasWitnesses()
+		{
+			return (isOpen(witness1) == false) && (isOpen(witness2) == false);
+		}
+
+		private boolean isOpen(AtomicReference<EncodedPreferenceSet> witness)
+		{
+			return (witness != null) && (witness.get() == null);
+		}
+	}
+
+}
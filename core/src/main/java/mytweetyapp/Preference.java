@@ -0,0 +1,93 @@
+package mytweetyapp;
+
+/*
+ * Immutable preference (first, relation, second) between two arguments, e.g. a > b.
+ * equals and hashCode compare the three components as given, like the triples used before, so a<b and b>a
+ * are different elements of a set; canonical() maps both to b>a (and a=b to the name-ordered form) for
+ * comparisons up to the direction of the relation. The hash is computed once in the constructor.
+ */
+
+import net.sf.tweety.arg.dung.syntax.Argument;
+
+public final class Preference {
+
+	private final Argument first;
+	private final PreferenceRelation relation;
+	private final Argument second;
+	private final int hash;
+
+	public Preference(Argument first, PreferenceRelation relation, Argument second)
+	{
+		if((first == null) || (relation == null) || (second == null))
+			throw new NullPointerException("Preference components must not be null");
+		this.first = first;
+		this.relation = relation;
+		this.second = second;
+		this.hash = (31 * (31 * first.hashCode() + relation.hashCode())) + second.hashCode();
+	}
+
+	public Argument getFirst()
+	{
+		return first;
+	}
+
+	public PreferenceRelation getRelation()
+	{
+		return relation;
+	}
+
+	public Argument getSecond()
+	{
+		return second;
+	}
+
+	//the same preference with first and second swapped, e.g. b < a for a > b
+
+	public Preference inverse()
+	{
+		return new Preference(second, relation.inverse(), first);
+	}
+
+	//canonical form: a<b is returned as b>a, and a=b with the arguments ordered by name
+
+	public Preference canonical()
+	{
+		if((relation == PreferenceRelation.LESS) || ((relation == PreferenceRelation.EQUAL) && (first.getName().compareTo(second.getName()) > 0)))
+			return inverse();
+		return this;
+	}
+
+	//true if both preferences state the same thing, possibly with first and second swapped
+
+	public boolean isEquivalent(Preference other)
+	{
+		if((relation == other.relation) && ArgumentationPreferences.isSameArgument(first, other.first) && ArgumentationPreferences.isSameArgument(second, other.second))
+			return true;
+		return (relation == other.relation.inverse()) && ArgumentationPreferences.isSameArgument(first, other.second)
+				&& ArgumentationPreferences.isSameArgument(second, other.first);
+	}
+
+	@Override
+	public boolean equals(Object o)
+	{
+		if(this == o)
+			return true;
+		if(!(o instanceof Preference))
+			return false;
+		Preference other = (Preference) o;
+		return (hash == other.hash) && (relation == other.relation) && first.equals(other.first) && second.equals(other.second);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return hash;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "(" + first + "," + relation + "," + second + ")";
+	}
+
+}
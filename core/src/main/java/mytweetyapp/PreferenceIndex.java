@@ -0,0 +1,99 @@
+package mytweetyapp;
+
+/*
+ * Index over the preferences of one or more preference sets, from each argument to the preferences it heads
+ * and to the arguments it shares a preference with. It answers the questions asked by checkArgumentPreferences
+ * and inPrefSet (does c head a preference, is there a preference between a and b) with hash lookups instead of
+ * scans over every set, and is kept up to date by add() as Case 3 branches on new pairs.
+ */
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import net.sf.tweety.arg.dung.syntax.Argument;
+
+public class PreferenceIndex {
+
+	private final Map<Argument, Set<Preference>> headed = new HashMap<Argument, Set<Preference>>();
+	private final Map<Argument, Set<Argument>> partners = new HashMap<Argument, Set<Argument>>();
+
+	//index of the preferences of all sets in prefSet
+
+	public static PreferenceIndex of(Set<Set<Preference>> prefSet)
+	{
+		PreferenceIndex index = new PreferenceIndex();
+		for(Set<Preference> pSet: prefSet)
+		{
+			index.addAll(pSet);
+		}
+		return index;
+	}
+
+	//index of the preferences of the single set pSet
+
+	public static PreferenceIndex ofSet(Set<Preference> pSet)
+	{
+		PreferenceIndex index = new PreferenceIndex();
+		index.addAll(pSet);
+		return index;
+	}
+
+	public void add(Preference p)
+	{
+		Set<Preference> prefs = headed.get(p.getFirst());
+		if(prefs == null)
+		{
+			prefs = new HashSet<Preference>();
+			headed.put(p.getFirst(), prefs);
+		}
+		prefs.add(p);
+		addPartner(p.getFirst(), p.getSecond());
+		addPartner(p.getSecond(), p.getFirst());
+	}
+
+	public void addAll(Set<Preference> pSet)
+	{
+		for(Preference p: pSet)
+		{
+			add(p);
+		}
+	}
+
+	private void addPartner(Argument a, Argument b)
+	{
+		Set<Argument> args = partners.get(a);
+		if(args == null)
+		{
+			args = new HashSet<Argument>();
+			partners.put(a, args);
+		}
+		args.add(b);
+	}
+
+	//true if c is the first argument of some indexed preference
+
+	public boolean isFirstArgument(Argument c)
+	{
+		return headed.containsKey(c);
+	}
+
+	//the indexed preferences with c as first argument
+
+	public Set<Preference> getPreferences(Argument c)
+	{
+		Set<Preference> prefs = headed.get(c);
+		return (prefs == null) ? Collections.<Preference>emptySet() : Collections.unmodifiableSet(prefs);
+	}
+
+	//true if some indexed preference is between a and b, in either order
+
+	public boolean contains(Argument a, Argument b)
+	{
+		Set<Argument> args = partners.get(a);
+		return (args != null) && args.contains(b);
+	}
+
+}
@@ -0,0 +1,107 @@
+package mytweetyapp;
+
+/*
+ * Level-gated output of the compute and verify functions, replacing their unconditional System.out calls.
+ * INFO is one line per experiment instance; DEBUG adds the per-set diagnostics of the verifiers (the framework
+ * with preferences applied, its extensions and whether the preferences are correct), printed as before.
+ * The per-set diagnostics can also go to a PreferenceTrace, one JSON object per line, independently of the level.
+ * Callers test isDebugEnabled() / isInfoEnabled() before building a message, so a disabled log formats nothing.
+ * The log never changes a verdict: the verifiers decide first and compute the extensions only as the payload of the
+ * per-set diagnostics, so DEBUG or a trace adds that enumeration to the run time.
+ * The log in use is process-wide and starts OFF, so library callers, tests and benchmarks print and enumerate
+ * nothing; the drivers set the level of their SweepConfig, INFO unless --log debug is given.
+ */
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Set;
+
+import net.sf.tweety.arg.dung.syntax.Argument;
+
+public class PreferenceLog {
+
+	public enum Level {
+		OFF,
+		INFO,
+		DEBUG
+	}
+
+	public static final PreferenceLog OFF = new PreferenceLog(Level.OFF, null);
+
+	private static volatile PreferenceLog log = OFF;
+
+	private final Level level;
+	private final PreferenceTrace trace;
+
+	//trace may be null for console output only
+
+	public PreferenceLog(Level level, PreferenceTrace trace)
+	{
+		this.level = level;
+		this.trace = trace;
+	}
+
+	public static PreferenceLog get()
+	{
+		return log;
+	}
+
+	public static void set(PreferenceLog newLog)
+	{
+		log = newLog;
+	}
+
+	public Level getLevel()
+	{
+		return level;
+	}
+
+	public boolean isInfoEnabled()
+	{
+		return level.compareTo(Level.INFO) >= 0;
+	}
+
+	//true if verified() has anywhere to write to, the console or the trace
+
+	public boolean isDebugEnabled()
+	{
+		return (level == Level.DEBUG) || (trace != null);
+	}
+
+	public void info(String message)
+	{
+		if(isInfoEnabled())
+			System.out.println(message);
+	}
+
+	//per-set diagnostics of a verifier: method 1 is attack removal and method 2 attack reversal,
+	//category is the result of classifyExtensions and correct whether the verifier accepts the set
+
+	public void verified(int method, DungTheoryOverlay view, Set<Set<Argument>> ext_sets, Set<Argument> ext, int category, boolean correct)
+	{
+		if(level == Level.DEBUG)
+		{
+			PrintStream out = System.out;
+			synchronized (out)
+			{
+				out.println(view);
+				if(method == 2)
+				{
+					out.println("Preferred Extensions:" + ext_sets);
+					out.println("All Preffered Extensions: " + ext_sets);
+					out.println("Input Extension: " + ext);
+				}
+				out.println(correct ? "Preferences are correct" : "Preferences are incorrect");
+			}
+		}
+		if(trace != null)
+			trace.verified(method, view, ext_sets, category, correct);
+	}
+
+	public void close() throws IOException
+	{
+		if(trace != null)
+			trace.close();
+	}
+
+}
@@ -0,0 +1,67 @@
+package mytweetyapp;
+
+/*
+ * Relation of a Preference (first, relation, second).
+ * of() maps the relation symbols >, < and = to the constants without allocating, so preferences
+ * can be compared with == on the relation and on argument identities instead of through toString().
+ */
+
+public enum PreferenceRelation {
+
+	GREATER(">"),	// first > second
+	LESS("<"),		// first < second
+	EQUAL("=");		// first = second
+
+	private final String symbol;
+
+	private PreferenceRelation(String symbol)
+	{
+		this.symbol = symbol;
+	}
+
+	public String getSymbol()
+	{
+		return symbol;
+	}
+
+	//relation of the same preference with first and second swapped
+
+	public PreferenceRelation inverse()
+	{
+		switch(this)
+		{
+		case GREATER:
+			return LESS;
+		case LESS:
+			return GREATER;
+		default:
+			return EQUAL;
+		}
+	}
+
+	//returns the relation for the symbol, or null if the symbol is not one of >, < and =
+
+	public static PreferenceRelation of(String symbol)
+	{
+		if(symbol.length() != 1)
+			return null;
+		switch(symbol.charAt(0))
+		{
+		case '>':
+			return GREATER;
+		case '<':
+			return LESS;
+		case '=':
+			return EQUAL;
+		default:
+			return null;
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return symbol;
+	}
+
+}
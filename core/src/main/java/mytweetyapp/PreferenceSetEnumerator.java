@@ -0,0 +1,579 @@
+package mytweetyapp;
+
+/*
+ * Lazy enumerator over all preference sets of an extension.
+ * The Case 1 preferences are fixed, every Case 2 pair is a choice point with options {a>b, a=b}
+ * and every Case 3 pair is a choice point with options {a>b, a=b, b>a}. A preference set is one
+ * choice per choice point, so the sets are produced one at a time from a mixed-radix index
+ * instead of materialising the whole cross product as ComputeAllPreferences does.
+ * Sets are built on the bit encoding and converted to Preference objects only by the preference view.
+ * Being a product, the space is also counted (count), sampled uniformly, tested for membership and projected
+ * onto a subset of the arguments in time polynomial in the number of choice points, however many sets it holds.
+ * The iterators step through the choice points like an odometer and the spliterators split a BigInteger index range,
+ * so neither needs the number of sets to fit in a long; a spliterator over more than Long.MAX_VALUE sets reports
+ * Long.MAX_VALUE and is not SIZED until it is split small enough. size() is only for spaces known to be small.
+ * forExtension groups the preferences by strongly connected component of the framework, a pair going with the
+ * component of its attacked argument, and returns the product of the per-component spaces (getFactor), digits of the
+ * earlier components first. The Case 3 checks read the preferences found before them in ext order, whichever
+ * component those lie in, so the choice points are still found in ext order and only grouped afterwards.
+ */
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class PreferenceSetEnumerator implements Iterable<Set<Preference>> {
+
+	private static final int[] CASE2_OPTIONS = {EncodedPreferenceSet.FIRST_PREFERRED, EncodedPreferenceSet.EQUAL};
+	private static final int[] CASE3_OPTIONS = {EncodedPreferenceSet.FIRST_PREFERRED, EncodedPreferenceSet.EQUAL, EncodedPreferenceSet.SECOND_PREFERRED};
+
+	private final EncodedPreferenceSet fixedPrefs;
+	private final int[] choiceSlots;
+	private final int[][] choiceCodes;
+	//spaces this one is the product of, or null if it is not a product
+	private final PreferenceSetEnumerator[] factors;
+
+	public PreferenceSetEnumerator(EncodedPreferenceSet fixedPrefs, int[] choiceSlots, int[][] choiceCodes)
+	{
+		this(fixedPrefs, choiceSlots, choiceCodes, null);
+	}
+
+	private PreferenceSetEnumerator(EncodedPreferenceSet fixedPrefs, int[] choiceSlots, int[][] choiceCodes, PreferenceSetEnumerator[] factors)
+	{
+		this.fixedPrefs = fixedPrefs;
+		this.choiceSlots = choiceSlots;
+		this.choiceCodes = choiceCodes;
+		this.factors = factors;
+	}
+
+	//function to combine spaces over disjoint slots of the same framework into their product,
+	//with the choice points of the first factor as the lowest digits of an index
+
+	public static PreferenceSetEnumerator product(List<PreferenceSetEnumerator> factors)
+	{
+		if(factors.isEmpty())
+			throw new IllegalArgumentException("Product of no preference spaces");
+		PreferenceSlots slots = factors.get(0).fixedPrefs.getSlots();
+		EncodedPreferenceSet prefs = slots.empty();
+		long[] usedSlots = new long[IndexedDungTheory.words(slots.getNumberOfSlots())];
+		List<Integer> productSlots = new ArrayList<Integer>();
+		List<int[]> productCodes = new ArrayList<int[]>();
+		for (PreferenceSetEnumerator factor : factors)
+		{
+			if(factor.fixedPrefs.getSlots() != slots)
+				throw new IllegalArgumentException("Preference spaces are over different slots");
+			for (int slot = factor.fixedPrefs.nextSlot(0); slot >= 0; slot = factor.fixedPrefs.nextSlot(slot + 1))
+			{
+				use(usedSlots, slot);
+				prefs.set(slot, factor.fixedPrefs.get(slot));
+			}
+			for (int i = 0; i < factor.choiceSlots.length; i++)
+			{
+				use(usedSlots, factor.choiceSlots[i]);
+				productSlots.add(factor.choiceSlots[i]);
+				productCodes.add(factor.choiceCodes[i]);
+			}
+		}
+		return new PreferenceSetEnumerator(prefs, toArray(productSlots), productCodes.toArray(new int[productCodes.size()][]),
+				factors.toArray(new PreferenceSetEnumerator[factors.size()]));
+	}
+
+	private static void use(long[] usedSlots, int slot)
+	{
+		if(IndexedDungTheory.contains(usedSlots, slot))
+			throw new IllegalArgumentException("Preference spaces share slot " + slot);
+		IndexedDungTheory.set(usedSlots, slot);
+	}
+
+	private static int[] toArray(List<Integer> list)
+	{
+		int[] array = new int[list.size()];
+		for (int i = 0; i < array.length; i++)
+			array[i] = list.get(i);
+		return array;
+	}
+
+	//function to compute the choice points of all three cases without expanding the cross product
+
+	public static PreferenceSetEnumerator forExtension(DungTheory at, Set<Argument> ext)
+	{
+		PreferenceSlots slots = new PreferenceSlots(at, ext);
+		IndexedDungTheory framework = slots.getFramework();
+		long[] extMask = framework.toMask(ext);
+		EncodedPreferenceSet prefs = ArgumentationPreferences.computeCase1Preferences(at, ext, slots);
+		List<Integer> choiceSlots = new ArrayList<Integer>();
+		List<int[]> choiceCodes = new ArrayList<int[]>();
+
+		//arguments heading a preference and slots holding one in the union of all preference sets,
+		//which is what the Case 3 checks of ComputeAllPreferences look at
+		long[] firstArguments = new long[framework.words()];
+		long[] presentSlots = new long[IndexedDungTheory.words(slots.getNumberOfSlots())];
+		prefs.addFirstArguments(firstArguments);
+		prefs.addPresentSlots(presentSlots);
+
+		//Case 2 choice points
+		for (Argument arg : ext) {
+			int a = framework.indexOf(arg);
+			long[] attacked = ArgumentationPreferences.getAttackedArguments(framework, extMask, a);
+			for (int b = IndexedDungTheory.nextSetBit(attacked, 0); b >= 0; b = IndexedDungTheory.nextSetBit(attacked, b + 1))
+			{
+				int slot = slots.slot(a, b);
+				choiceSlots.add(slot);
+				choiceCodes.add(CASE2_OPTIONS);
+				IndexedDungTheory.set(firstArguments, a);
+				IndexedDungTheory.set(presentSlots, slot);
+			}
+		}
+
+		//Case 3 choice points
+		for (Argument arg : ext) {
+			int a = framework.indexOf(arg);
+			long[] attackers = framework.getAttackers(a);
+			for (int b = IndexedDungTheory.nextSetBit(attackers, 0); b >= 0; b = IndexedDungTheory.nextSetBit(attackers, b + 1)) {
+				int slot = slots.slot(a, b);
+				if((slot >= 0) && (ArgumentationPreferences.checkNoDefence2(framework, extMask, a, b, firstArguments)==false)
+						&& (IndexedDungTheory.contains(presentSlots, slot)==false))
+				{
+					choiceSlots.add(slot);
+					choiceCodes.add(CASE3_OPTIONS);
+					IndexedDungTheory.set(firstArguments, a);
+					IndexedDungTheory.set(firstArguments, b);
+					IndexedDungTheory.set(presentSlots, slot);
+				}
+			}
+		}
+
+		//one factor per component that has preferences, in topological order
+		int components = framework.getSccDecomposition().getNumberOfComponents();
+		EncodedPreferenceSet[] componentPrefs = new EncodedPreferenceSet[components];
+		List<List<Integer>> componentSlots = new ArrayList<List<Integer>>();
+		List<List<int[]>> componentCodes = new ArrayList<List<int[]>>();
+		for (int c = 0; c < components; c++)
+		{
+			componentSlots.add(new ArrayList<Integer>());
+			componentCodes.add(new ArrayList<int[]>());
+		}
+		for (int slot = prefs.nextSlot(0); slot >= 0; slot = prefs.nextSlot(slot + 1))
+		{
+			int c = slots.getComponent(slot);
+			if(componentPrefs[c] == null)
+				componentPrefs[c] = slots.empty();
+			componentPrefs[c].set(slot, prefs.get(slot));
+		}
+		for (int i = 0; i < choiceSlots.size(); i++)
+		{
+			int c = slots.getComponent(choiceSlots.get(i));
+			componentSlots.get(c).add(choiceSlots.get(i));
+			componentCodes.get(c).add(choiceCodes.get(i));
+		}
+		List<PreferenceSetEnumerator> factors = new ArrayList<PreferenceSetEnumerator>();
+		for (int c = 0; c < components; c++)
+		{
+			if((componentPrefs[c] == null) && componentSlots.get(c).isEmpty())
+				continue;
+			List<int[]> codes = componentCodes.get(c);
+			factors.add(new PreferenceSetEnumerator((componentPrefs[c] == null) ? slots.empty() : componentPrefs[c],
+					toArray(componentSlots.get(c)), codes.toArray(new int[codes.size()][])));
+		}
+		if(factors.isEmpty())
+			return new PreferenceSetEnumerator(prefs, new int[0], new int[0][]);
+		return product(factors);
+	}
+
+	//number of preference sets, throws ArithmeticException if it does not fit in a long; count() has no such limit
+
+	public long size()
+	{
+		long size = 1;
+		for(int[] options: choiceCodes)
+		{
+			size = Math.multiplyExact(size, options.length);
+		}
+		return size;
+	}
+
+	//exact number of preference sets, for spaces too large for size()
+
+	public BigInteger count()
+	{
+		BigInteger count = BigInteger.ONE;
+		for(int[] options: choiceCodes)
+		{
+			count = count.multiply(BigInteger.valueOf(options.length));
+		}
+		return count;
+	}
+
+	public int getNumberOfChoicePoints()
+	{
+		return choiceSlots.length;
+	}
+
+	public EncodedPreferenceSet getFixedPreferences()
+	{
+		return fixedPrefs;
+	}
+
+	//number of spaces this one is the product of, 1 if it is not a product
+
+	public int getNumberOfFactors()
+	{
+		return (factors == null) ? 1 : factors.length;
+	}
+
+	public PreferenceSetEnumerator getFactor(int f)
+	{
+		if(factors == null)
+		{
+			if(f != 0)
+				throw new IndexOutOfBoundsException("No factor " + f);
+			return this;
+		}
+		return factors[f];
+	}
+
+	//function to build the preference set with the given index, where the index is read as one digit per choice point
+
+	public EncodedPreferenceSet getEncoded(long index)
+	{
+		EncodedPreferenceSet prefs = fixedPrefs.copy();
+		for(int i = 0; i < choiceSlots.length; i++)
+		{
+			int radix = choiceCodes[i].length;
+			prefs.set(choiceSlots[i], choiceCodes[i][(int) (index % radix)]);
+			index = index / radix;
+		}
+		return prefs;
+	}
+
+	public EncodedPreferenceSet getEncoded(BigInteger index)
+	{
+		EncodedPreferenceSet prefs = fixedPrefs.copy();
+		for(int i = 0; i < choiceSlots.length; i++)
+		{
+			BigInteger[] digit = index.divideAndRemainder(BigInteger.valueOf(choiceCodes[i].length));
+			prefs.set(choiceSlots[i], choiceCodes[i][digit[1].intValue()]);
+			index = digit[0];
+		}
+		return prefs;
+	}
+
+	public Set<Preference> get(long index)
+	{
+		return getEncoded(index).toPreferences();
+	}
+
+	//function to draw a preference set uniformly at random, by drawing each choice point independently
+
+	public EncodedPreferenceSet sampleEncoded(SplittableRandom rand)
+	{
+		EncodedPreferenceSet prefs = fixedPrefs.copy();
+		for(int i = 0; i < choiceSlots.length; i++)
+		{
+			prefs.set(choiceSlots[i], choiceCodes[i][rand.nextInt(choiceCodes[i].length)]);
+		}
+		return prefs;
+	}
+
+	public Set<Preference> sample(SplittableRandom rand)
+	{
+		return sampleEncoded(rand).toPreferences();
+	}
+
+	//function to check that a preference set is one of the sets: the fixed preferences, one option at every choice point and nothing else
+
+	public boolean contains(EncodedPreferenceSet prefs)
+	{
+		if(prefs.getSlots() != fixedPrefs.getSlots())
+			return false;
+		EncodedPreferenceSet expected = fixedPrefs.copy();
+		for(int i = 0; i < choiceSlots.length; i++)
+		{
+			int code = prefs.get(choiceSlots[i]);
+			boolean option = false;
+			for(int c: choiceCodes[i])
+			{
+				option |= (c == code);
+			}
+			if(option == false)
+				return false;
+			expected.set(choiceSlots[i], code);
+		}
+		return expected.equals(prefs);
+	}
+
+	//encoding drops preferences over pairs without a slot, merges preferences over one pair and forgets the order
+	//of a=b, so the set is only one of the sets if it is also exactly what its encoding converts back to
+
+	public boolean contains(Set<Preference> prefSet)
+	{
+		EncodedPreferenceSet prefs = fixedPrefs.getSlots().encode(prefSet);
+		return contains(prefs) && prefs.toPreferences().equals(prefSet);
+	}
+
+	//function to project the space onto the preferences between arguments of args, which keeps the choice points inside args
+
+	public PreferenceSetEnumerator project(Set<Argument> args)
+	{
+		PreferenceSlots slots = fixedPrefs.getSlots();
+		long[] argMask = slots.getFramework().toMask(args);
+		EncodedPreferenceSet prefs = slots.empty();
+		for(int slot = fixedPrefs.nextSlot(0); slot >= 0; slot = fixedPrefs.nextSlot(slot + 1))
+		{
+			if(isInside(slots, argMask, slot))
+				prefs.set(slot, fixedPrefs.get(slot));
+		}
+		List<Integer> keptSlots = new ArrayList<Integer>();
+		List<int[]> keptCodes = new ArrayList<int[]>();
+		for(int i = 0; i < choiceSlots.length; i++)
+		{
+			if(isInside(slots, argMask, choiceSlots[i]))
+			{
+				keptSlots.add(choiceSlots[i]);
+				keptCodes.add(choiceCodes[i]);
+			}
+		}
+		return new PreferenceSetEnumerator(prefs, toArray(keptSlots), keptCodes.toArray(new int[keptCodes.size()][]));
+	}
+
+	private static boolean isInside(PreferenceSlots slots, long[] argMask, int slot)
+	{
+		return IndexedDungTheory.contains(argMask, slots.getFirst(slot)) && IndexedDungTheory.contains(argMask, slots.getSecond(slot));
+	}
+
+	//the preference sets on the bit encoding
+
+	public Iterable<EncodedPreferenceSet> encoded()
+	{
+		return new Iterable<EncodedPreferenceSet>() {
+			@Override
+			public Iterator<EncodedPreferenceSet> iterator()
+			{
+				return new DigitIterator();
+			}
+
+			@Override
+			public Spliterator<EncodedPreferenceSet> spliterator()
+			{
+				return new EncodedSpliterator(BigInteger.ZERO, count());
+			}
+		};
+	}
+
+	@Override
+	public Iterator<Set<Preference>> iterator()
+	{
+		final Iterator<EncodedPreferenceSet> it = new DigitIterator();
+		return new Iterator<Set<Preference>>() {
+			@Override
+			public boolean hasNext()
+			{
+				return it.hasNext();
+			}
+
+			@Override
+			public Set<Preference> next()
+			{
+				return it.next().toPreferences();
+			}
+		};
+	}
+
+	@Override
+	public Spliterator<Set<Preference>> spliterator()
+	{
+		return new PreferenceSpliterator(BigInteger.ZERO, count());
+	}
+
+	public Stream<Set<Preference>> stream()
+	{
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	public Stream<Set<Preference>> parallelStream()
+	{
+		return StreamSupport.stream(spliterator(), true);
+	}
+
+	public Stream<EncodedPreferenceSet> encodedStream(boolean parallel)
+	{
+		return StreamSupport.stream(new EncodedSpliterator(BigInteger.ZERO, count()), parallel);
+	}
+
+	//the sets in index order, counting one digit per choice point up with carry, so there is no bound on the index
+
+	private class DigitIterator implements Iterator<EncodedPreferenceSet> {
+
+		private final int[] digits = new int[choiceSlots.length];
+		private boolean more = true;
+
+		@Override
+		public boolean hasNext()
+		{
+			return more;
+		}
+
+		@Override
+		public EncodedPreferenceSet next()
+		{
+			if(more == false)
+				throw new NoSuchElementException();
+			EncodedPreferenceSet prefs = fixedPrefs.copy();
+			for(int i = 0; i < choiceSlots.length; i++)
+			{
+				prefs.set(choiceSlots[i], choiceCodes[i][digits[i]]);
+			}
+			int i = 0;
+			while((i < digits.length) && (++digits[i] == choiceCodes[i].length))
+			{
+				digits[i] = 0;
+				i++;
+			}
+			more = (i < digits.length);
+			return prefs;
+		}
+	}
+
+	//splits the index range in halves, so the sets can be consumed by parallel streams; the range is a BigInteger,
+	//and once it fits in a long the sets are built from long indices
+
+	private abstract class IndexSpliterator<T> implements Spliterator<T> {
+
+		private static final int LONG_BITS = 63;
+
+		protected BigInteger origin;
+		protected final BigInteger fence;
+
+		IndexSpliterator(BigInteger origin, BigInteger fence)
+		{
+			this.origin = origin;
+			this.fence = fence;
+		}
+
+		abstract T at(long index);
+
+		abstract T at(BigInteger index);
+
+		abstract IndexSpliterator<T> prefix(BigInteger origin, BigInteger fence);
+
+		private boolean isLong()
+		{
+			return fence.bitLength() <= LONG_BITS;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action)
+		{
+			if(origin.compareTo(fence) >= 0)
+				return false;
+			action.accept(isLong() ? at(origin.longValue()) : at(origin));
+			origin = origin.add(BigInteger.ONE);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action)
+		{
+			if(isLong() == false)
+			{
+				while(tryAdvance(action));
+				return;
+			}
+			long end = fence.longValue();
+			for(long index = origin.longValue(); index < end; index++)
+			{
+				action.accept(at(index));
+			}
+			origin = fence;
+		}
+
+		@Override
+		public Spliterator<T> trySplit()
+		{
+			BigInteger mid = origin.add(fence.subtract(origin).shiftRight(1));
+			if(mid.compareTo(origin) <= 0)
+				return null;
+			IndexSpliterator<T> prefix = prefix(origin, mid);
+			origin = mid;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize()
+		{
+			BigInteger remaining = fence.subtract(origin);
+			return (remaining.bitLength() <= LONG_BITS) ? remaining.longValue() : Long.MAX_VALUE;
+		}
+
+		@Override
+		public int characteristics()
+		{
+			int characteristics = ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+			return isLong() ? (characteristics | SIZED | SUBSIZED) : characteristics;
+		}
+	}
+
+	private class EncodedSpliterator extends IndexSpliterator<EncodedPreferenceSet> {
+
+		EncodedSpliterator(BigInteger origin, BigInteger fence)
+		{
+			super(origin, fence);
+		}
+
+		@Override
+		EncodedPreferenceSet at(long index)
+		{
+			return getEncoded(index);
+		}
+
+		@Override
+		EncodedPreferenceSet at(BigInteger index)
+		{
+			return getEncoded(index);
+		}
+
+		@Override
+		IndexSpliterator<EncodedPreferenceSet> prefix(BigInteger origin, BigInteger fence)
+		{
+			return new EncodedSpliterator(origin, fence);
+		}
+	}
+
+	private class PreferenceSpliterator extends IndexSpliterator<Set<Preference>> {
+
+		PreferenceSpliterator(BigInteger origin, BigInteger fence)
+		{
+			super(origin, fence);
+		}
+
+		@Override
+		Set<Preference> at(long index)
+		{
+			return get(index);
+		}
+
+		@Override
+		Set<Preference> at(BigInteger index)
+		{
+			return getEncoded(index).toPreferences();
+		}
+
+		@Override
+		IndexSpliterator<Set<Preference>> prefix(BigInteger origin, BigInteger fence)
+		{
+			return new PreferenceSpliterator(origin, fence);
+		}
+	}
+
+}
@@ -0,0 +1,242 @@
+package mytweetyapp;
+
+/*
+ * Slot layout for bit-encoded preference sets of one framework and extension.
+ * Arguments are indexed 0..n-1 and every attacked pair {a,b} (in either direction) gets one slot.
+ * The first argument of a slot is the extension member of the pair, so the preferences computed
+ * for the three cases (always written with the extension argument first) decode back to the same preferences.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class PreferenceSlots {
+
+	private final IndexedDungTheory framework;
+	private final int[] slotFirst;
+	private final int[] slotSecond;
+
+	//per argument: sorted ids of the arguments it shares a slot with, and the matching slots
+	private final int[][] neighbours;
+	private final int[][] neighbourSlots;
+
+	public PreferenceSlots(DungTheory at, Set<Argument> ext)
+	{
+		this(new IndexedDungTheory(at), ext);
+	}
+
+	public PreferenceSlots(IndexedDungTheory framework, Set<Argument> ext)
+	{
+		this.framework = framework;
+		int n = framework.size();
+		long[] extMask = framework.toMask(ext);
+
+		List<int[]> pairs = new ArrayList<int[]>();
+		int[] degree = new int[n];
+		for (int attacked = 0; attacked < n; attacked++)
+		{
+			long[] row = framework.getAttackers(attacked);
+			for (int attacker = IndexedDungTheory.nextSetBit(row, 0); attacker >= 0; attacker = IndexedDungTheory.nextSetBit(row, attacker + 1))
+			{
+				//a mutual attack gets its slot from the lower attacked id
+				if((attacker == attacked) || (framework.isAttackedBy(attacker, attacked) && (attacker < attacked)))
+					continue;
+
+				//extension argument first, otherwise the attacked argument first
+				if(IndexedDungTheory.contains(extMask, attacker) && (IndexedDungTheory.contains(extMask, attacked) == false))
+					pairs.add(new int[] {attacker, attacked});
+				else
+					pairs.add(new int[] {attacked, attacker});
+				degree[attacker]++;
+				degree[attacked]++;
+			}
+		}
+
+		slotFirst = new int[pairs.size()];
+		slotSecond = new int[pairs.size()];
+		long[][] adjacency = new long[n][];
+		for (int a = 0; a < n; a++)
+			adjacency[a] = new long[degree[a]];
+		int[] fill = new int[n];
+		for (int slot = 0; slot < pairs.size(); slot++)
+		{
+			int first = pairs.get(slot)[0];
+			int second = pairs.get(slot)[1];
+			slotFirst[slot] = first;
+			slotSecond[slot] = second;
+
+			//neighbour id in the high bits so that sorting orders by neighbour
+			adjacency[first][fill[first]++] = ((long) second << 32) | slot;
+			adjacency[second][fill[second]++] = ((long) first << 32) | slot;
+		}
+
+		neighbours = new int[n][];
+		neighbourSlots = new int[n][];
+		for (int a = 0; a < n; a++)
+		{
+			Arrays.sort(adjacency[a]);
+			neighbours[a] = new int[degree[a]];
+			neighbourSlots[a] = new int[degree[a]];
+			for (int i = 0; i < degree[a]; i++)
+			{
+				neighbours[a][i] = (int) (adjacency[a][i] >>> 32);
+				neighbourSlots[a][i] = (int) adjacency[a][i];
+			}
+		}
+	}
+
+	public IndexedDungTheory getFramework()
+	{
+		return framework;
+	}
+
+	public int getNumberOfArguments()
+	{
+		return framework.size();
+	}
+
+	public int getNumberOfSlots()
+	{
+		return slotFirst.length;
+	}
+
+	public Argument getArgument(int id)
+	{
+		return framework.getArgument(id);
+	}
+
+	//returns the id of the argument, or -1 if it is not in the framework
+
+	public int indexOf(Argument a)
+	{
+		return framework.indexOf(a);
+	}
+
+	public int getFirst(int slot)
+	{
+		return slotFirst[slot];
+	}
+
+	public int getSecond(int slot)
+	{
+		return slotSecond[slot];
+	}
+
+	//strongly connected component of the framework the slot belongs to: that of the attacked argument of its attacks,
+	//which is the later of the two in topological order
+
+	public int getComponent(int slot)
+	{
+		SccDecomposition sccs = framework.getSccDecomposition();
+		return Math.max(sccs.getComponent(slotFirst[slot]), sccs.getComponent(slotSecond[slot]));
+	}
+
+	//slots shared by argument a and the arguments it attacks or is attacked by
+
+	public int[] getSlots(int a)
+	{
+		return neighbourSlots[a];
+	}
+
+	//returns the slot of the pair {a,b}, or -1 if neither argument attacks the other
+
+	public int slot(int a, int b)
+	{
+		int i = Arrays.binarySearch(neighbours[a], b);
+		return (i < 0) ? -1 : neighbourSlots[a][i];
+	}
+
+	public int slot(Argument a, Argument b)
+	{
+		int ia = indexOf(a);
+		int ib = indexOf(b);
+		if((ia < 0) || (ib < 0))
+			return -1;
+		return slot(ia, ib);
+	}
+
+	public EncodedPreferenceSet empty()
+	{
+		return new EncodedPreferenceSet(this);
+	}
+
+	//function to encode one preference set, preferences over pairs without an attack are dropped as they cannot change the framework
+
+	public EncodedPreferenceSet encode(Set<Preference> prefSet)
+	{
+		EncodedPreferenceSet encoded = empty();
+		for(Preference p: prefSet)
+		{
+			int slot = slot(p.getFirst(), p.getSecond());
+			if(slot >= 0)
+				encoded.set(slot, code(slot, p));
+		}
+		return encoded;
+	}
+
+	//function to encode preference sets one at a time as they are iterated
+
+	public Iterable<EncodedPreferenceSet> encodeAll(final Iterable<Set<Preference>> prefSets)
+	{
+		return new Iterable<EncodedPreferenceSet>() {
+			@Override
+			public Iterator<EncodedPreferenceSet> iterator()
+			{
+				final Iterator<Set<Preference>> it = prefSets.iterator();
+				return new Iterator<EncodedPreferenceSet>() {
+					@Override
+					public boolean hasNext()
+					{
+						return it.hasNext();
+					}
+
+					@Override
+					public EncodedPreferenceSet next()
+					{
+						return encode(it.next());
+					}
+				};
+			}
+		};
+	}
+
+	//relation code of a preference in its slot
+
+	public int code(int slot, Preference p)
+	{
+		boolean firstOrder = p.getFirst().equals(getArgument(slotFirst[slot]));
+		switch(p.getRelation())
+		{
+		case GREATER:
+			return firstOrder ? EncodedPreferenceSet.FIRST_PREFERRED : EncodedPreferenceSet.SECOND_PREFERRED;
+		case LESS:
+			return firstOrder ? EncodedPreferenceSet.SECOND_PREFERRED : EncodedPreferenceSet.FIRST_PREFERRED;
+		default:
+			return EncodedPreferenceSet.EQUAL;
+		}
+	}
+
+	public Preference toPreference(int slot, int code)
+	{
+		Argument first = getArgument(slotFirst[slot]);
+		Argument second = getArgument(slotSecond[slot]);
+		switch(code)
+		{
+		case EncodedPreferenceSet.FIRST_PREFERRED:
+			return new Preference(first, PreferenceRelation.GREATER, second);
+		case EncodedPreferenceSet.EQUAL:
+			return new Preference(first, PreferenceRelation.EQUAL, second);
+		case EncodedPreferenceSet.SECOND_PREFERRED:
+			return new Preference(second, PreferenceRelation.GREATER, first);
+		default:
+			throw new IllegalArgumentException("No preference for code " + code);
+		}
+	}
+
+}
@@ -0,0 +1,124 @@
+package mytweetyapp;
+
+/*
+ * JSONL trace of the per-set diagnostics of the verifiers, one object per verified preference set, e.g.
+ *   {"method":1,"arguments":6,"attacks":7,"removed":[["a2","a1"]],"added":[],"extensions":[["a1","a3"]],"category":0,"correct":true}
+ * removed and added are the attacks changed by the preferences relative to the input framework.
+ * Lines are written whole under a lock, so one trace can be shared by the workers of a pool.
+ */
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Set;
+
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.Attack;
+
+public class PreferenceTrace {
+
+	private final Writer writer;
+
+	public PreferenceTrace(Writer writer)
+	{
+		this.writer = writer;
+	}
+
+	public PreferenceTrace(String file) throws IOException
+	{
+		this(new BufferedWriter(new FileWriter(file)));
+	}
+
+	public void verified(int method, DungTheoryOverlay view, Set<Set<Argument>> ext_sets, int category, boolean correct)
+	{
+		StringBuilder line = new StringBuilder(128);
+		line.append("{\"method\":").append(method);
+		line.append(",\"arguments\":").append(view.size());
+		line.append(",\"attacks\":").append(view.getNumberOfAttacks());
+		line.append(",\"removed\":");
+		appendAttacks(line, view.getRemovedAttacks());
+		line.append(",\"added\":");
+		appendAttacks(line, view.getAddedAttacks());
+		line.append(",\"extensions\":[");
+		boolean first = true;
+		for (Set<Argument> ext_set : ext_sets)
+		{
+			if(first == false)
+				line.append(',');
+			appendArguments(line, ext_set);
+			first = false;
+		}
+		line.append("],\"category\":").append(category);
+		line.append(",\"correct\":").append(correct).append("}\n");
+		synchronized (writer)
+		{
+			try
+			{
+				writer.write(line.toString());
+			}
+			catch (IOException e)
+			{
+				throw new IllegalStateException("Cannot write trace", e);
+			}
+		}
+	}
+
+	public void close() throws IOException
+	{
+		synchronized (writer)
+		{
+			writer.close();
+		}
+	}
+
+	private static void appendAttacks(StringBuilder line, Set<Attack> attacks)
+	{
+		line.append('[');
+		boolean first = true;
+		for (Attack attack : attacks)
+		{
+			if(first == false)
+				line.append(',');
+			line.append('[');
+			appendString(line, attack.getAttacker().getName());
+			line.append(',');
+			appendString(line, attack.getAttacked().getName());
+			line.append(']');
+			first = false;
+		}
+		line.append(']');
+	}
+
+	private static void appendArguments(StringBuilder line, Collection<Argument> args)
+	{
+		line.append('[');
+		boolean first = true;
+		for (Argument a : args)
+		{
+			if(first == false)
+				line.append(',');
+			appendString(line, a.getName());
+			first = false;
+		}
+		line.append(']');
+	}
+
+	private static void appendString(StringBuilder line, String s)
+	{
+		line.append('"');
+		for (int i = 0; i < s.length(); i++)
+		{
+			char c = s.charAt(i);
+			if((c == '"') || (c == '\\'))
+				line.append('\\').append(c);
+			else if(c < 0x20)
+				line.append(String.format("\\u%04x", (int) c));
+			else
+				line.append(c);
+		}
+		line.append('"');
+	}
+
+}
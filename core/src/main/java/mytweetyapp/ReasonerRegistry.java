@@ -0,0 +1,190 @@
+package mytweetyapp;
+
+/*
+ * Extension reasoners for one run: one tweety reasoner per semantics, created on first use and reused
+ * by every verification call, in front of an ExtensionCache of the frameworks already enumerated.
+ * The simple tweety reasoners keep no state between calls, so one registry can be shared by all
+ * workers of a pool.
+ * Whether a set is an extension, the only extension, or how the extensions relate to it, is decided without
+ * enumerating where the semantics allow: by the grounded solver for grounded semantics, by ExtensionChecker for
+ * the local conditions, and for preferred and stable semantics by the SatSession of the base framework, solved
+ * under the attacks of each overlay. Other semantics fall back to the tweety reasoner.
+ * An overlay whose largest strongly connected component holds at most half of its arguments is checked for
+ * preferred semantics one component at a time by SccExtensionSolver. Its solvers are built for every overlay, while
+ * the session is encoded once, so on one dominant component the session is faster (see ExtensionCheckBenchmark).
+ * Stable semantics is not directional, as a later component can leave
+ * an earlier choice without any stable extension, so its uniqueness check stays on the whole framework.
+ */
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+import net.sf.tweety.arg.dung.reasoner.AbstractExtensionReasoner;
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+
+public class ReasonerRegistry {
+
+	public static final int DEFAULT_CACHE_SIZE = 10000;
+
+	private final Map<Semantics, AbstractExtensionReasoner> reasoners = new EnumMap<Semantics, AbstractExtensionReasoner>(Semantics.class);
+	private final ExtensionCache cache;
+
+	public ReasonerRegistry()
+	{
+		this(DEFAULT_CACHE_SIZE);
+	}
+
+	//a cache size of 0 turns the cache off
+
+	public ReasonerRegistry(int cacheSize)
+	{
+		this.cache = new ExtensionCache(cacheSize);
+	}
+
+	public synchronized AbstractExtensionReasoner getReasoner(Semantics semantics)
+	{
+		AbstractExtensionReasoner reasoner = reasoners.get(semantics);
+		if(reasoner == null)
+		{
+			reasoner = AbstractExtensionReasoner.getSimpleReasonerForSemantics(semantics);
+			reasoners.put(semantics, reasoner);
+		}
+		return reasoner;
+	}
+
+	public ExtensionCache getCache()
+	{
+		return cache;
+	}
+
+	//function to compute the extensions of the overlay, from the cache if the same attack relation was evaluated before
+
+	public Set<Set<Argument>> getModels(DungTheoryOverlay view, Semantics semantics)
+	{
+		Set<Set<Argument>> ext_sets = cache.get(view, semantics);
+		if(ext_sets != null)
+			return ext_sets;
+		return cache.put(view, semantics, OverlayReasoner.getModels(view, semantics, getReasoner(semantics)));
+	}
+
+	//function to check that ext is an extension of the overlay, directly where the semantics allow and by enumerating otherwise
+
+	public boolean isExtension(DungTheoryOverlay view, Semantics semantics, Set<Argument> ext)
+	{
+		long[] mask = view.toMask(ext);
+		if(IndexedDungTheory.cardinality(mask) != ext.size())
+			return false;
+		switch(semantics)
+		{
+		case GROUNDED_SEMANTICS:
+			return Arrays.equals(view.getBase().getGroundedSolver().solve(view), mask);
+		case ADMISSIBLE_SEMANTICS:
+		case COMPLETE_SEMANTICS:
+		case STABLE_SEMANTICS:
+			return ExtensionChecker.isExtension(view, mask, semantics);
+		case PREFERRED_SEMANTICS:
+			SccDecomposition sccs = decompose(view);
+			if(sccs != null)
+				return SccExtensionSolver.isPreferredExtension(view, sccs, mask);
+			SatSession session = acquireSession(view, semantics);
+			if(session == null)
+				return SatExtensionSolver.isPreferredExtension(view, mask);
+			try
+			{
+				return session.isExtension(view, mask);
+			}
+			finally
+			{
+				view.getBase().releaseSatSession(session);
+			}
+		default:
+			return getModels(view, semantics).contains(ext);
+		}
+	}
+
+	//function to check that ext is the only extension of the overlay, directly where the semantics allow and by enumerating otherwise
+
+	public boolean isUniqueExtension(DungTheoryOverlay view, Semantics semantics, Set<Argument> ext)
+	{
+		long[] mask = view.toMask(ext);
+		if(IndexedDungTheory.cardinality(mask) != ext.size())
+			return false;
+		switch(semantics)
+		{
+		case GROUNDED_SEMANTICS:
+			return Arrays.equals(view.getBase().getGroundedSolver().solve(view), mask);
+		case COMPLETE_SEMANTICS:
+			//the grounded extension is the least complete extension, and every complete extension lies in a preferred one
+			return isUniqueExtension(view, Semantics.GROUNDED_SEMANTICS, ext) && isUniqueExtension(view, Semantics.PREFERRED_SEMANTICS, ext);
+		case PREFERRED_SEMANTICS:
+			SccDecomposition sccs = decompose(view);
+			if(sccs != null)
+				return SccExtensionSolver.isUniquePreferredExtension(view, sccs, mask);
+			//one component: the session of the whole framework
+		case STABLE_SEMANTICS:
+			SatSession session = acquireSession(view, semantics);
+			if(session == null)
+				return (semantics == Semantics.STABLE_SEMANTICS) ? SatExtensionSolver.isUniqueStableExtension(view, mask)
+						: SatExtensionSolver.isUniquePreferredExtension(view, mask);
+			try
+			{
+				return session.isUniqueExtension(view, mask);
+			}
+			finally
+			{
+				view.getBase().releaseSatSession(session);
+			}
+		default:
+			return ArgumentationPreferences.classifyExtensions(getModels(view, semantics), ext) == 0;
+		}
+	}
+
+	//function to get the category of the extensions of the overlay for ext, as classifyExtensions does
+
+	public int classify(DungTheoryOverlay view, Semantics semantics, Set<Argument> ext)
+	{
+		long[] mask = view.toMask(ext);
+		if(((semantics == Semantics.PREFERRED_SEMANTICS) || (semantics == Semantics.STABLE_SEMANTICS))
+				&& (IndexedDungTheory.cardinality(mask) == ext.size()))
+		{
+			SatSession session = acquireSession(view, semantics);
+			if(session != null)
+			{
+				try
+				{
+					return session.classify(view, mask);
+				}
+				finally
+				{
+					view.getBase().releaseSatSession(session);
+				}
+			}
+		}
+		return ArgumentationPreferences.classifyExtensions(getModels(view, semantics), ext);
+	}
+
+	//strongly connected components of the overlay, or null if the largest holds more than half of the arguments,
+	//where solving the components one by one does not pay off; the decomposition is linear in the attacks
+
+	private static SccDecomposition decompose(DungTheoryOverlay view)
+	{
+		SccDecomposition sccs = new SccDecomposition(view);
+		return (2 * sccs.getLargestComponentSize() <= view.size()) ? sccs : null;
+	}
+
+	//SAT session of the base of the overlay with selectors for all its attacks, or null if there is none;
+	//a session returned is handed back with releaseSatSession
+
+	private static SatSession acquireSession(DungTheoryOverlay view, Semantics semantics)
+	{
+		SatSession session = view.getBase().acquireSatSession(semantics, view.hasAddedAttacks());
+		if(session.covers(view))
+			return session;
+		view.getBase().releaseSatSession(session);
+		return null;
+	}
+
+}
@@ -0,0 +1,58 @@
+package mytweetyapp;
+
+/*
+ * Outcome of drawing approximate preference sets with ApproximatePreferenceSampler: how many sets were
+ * drawn and verified, and the correct ones in the order they were drawn.
+ * When the sampler stops at the first correct set, samples counts only the sets verified before it stopped.
+ */
+
+import java.util.Collections;
+import java.util.List;
+
+public class SampledPreferences {
+
+	private final int samples;
+	private final List<EncodedPreferenceSet> correctSets;
+
+	public SampledPreferences(int samples, List<EncodedPreferenceSet> correctSets)
+	{
+		this.samples = samples;
+		this.correctSets = Collections.unmodifiableList(correctSets);
+	}
+
+	public int getSamples()
+	{
+		return samples;
+	}
+
+	public int getCorrect()
+	{
+		return correctSets.size();
+	}
+
+	//fraction of the verified samples that are correct, 0 if nothing was verified
+
+	public double getSuccessRate()
+	{
+		return (samples == 0) ? 0 : (double) correctSets.size() / samples;
+	}
+
+	public List<EncodedPreferenceSet> getCorrectSets()
+	{
+		return correctSets;
+	}
+
+	//the first correct set drawn, or null if no sample was correct
+
+	public EncodedPreferenceSet getFirst()
+	{
+		return correctSets.isEmpty() ? null : correctSets.get(0);
+	}
+
+	@Override
+	public String toString()
+	{
+		return "Samples: " + samples + ", correct: " + getCorrect() + ", success rate: " + getSuccessRate();
+	}
+
+}
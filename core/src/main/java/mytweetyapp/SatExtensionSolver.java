@@ -0,0 +1,174 @@
+package mytweetyapp;
+
+/*
+ * SAT checks that a set of arguments is the only preferred or only stable extension of an indexed framework,
+ * without enumerating the extensions. Argument a is variable a+1 and the clauses go to a sat4j solver, the
+ * solver behind tweety's Sat4jSolver, as plain integer clauses.
+ * Stable: ext must be conflict-free and attack every argument outside it (checked by ExtensionChecker), and no
+ * stable extension other than ext may exist (one SAT query).
+ * Preferred: ext must be admissible (checked by ExtensionChecker), and no admissible set may contain an argument
+ * outside ext (one SAT query). Every admissible set lies in some preferred extension, so together this holds exactly when
+ * ext is preferred and no other preferred extension exists.
+ */
+
+import org.sat4j.core.VecInt;
+import org.sat4j.minisat.SolverFactory;
+import org.sat4j.specs.ContradictionException;
+import org.sat4j.specs.ISolver;
+import org.sat4j.specs.TimeoutException;
+
+public class SatExtensionSolver {
+
+	//function to check that ext is the unique stable extension of the framework
+
+	public static boolean isUniqueStableExtension(IndexedFramework at, long[] ext)
+	{
+		if(ExtensionChecker.isStable(at, ext) == false)
+			return false;
+		ISolver solver = newSolver(at);
+		try
+		{
+			addConflictFree(solver, at);
+			addAttacksOutside(solver, at);
+			addDiffers(solver, at, ext);
+		}
+		catch (ContradictionException e)
+		{
+			return true;
+		}
+		return isSatisfiable(solver) == false;
+	}
+
+	//function to check that ext is the unique preferred extension of the framework
+
+	public static boolean isUniquePreferredExtension(IndexedFramework at, long[] ext)
+	{
+		if(ExtensionChecker.isAdmissible(at, ext) == false)
+			return false;
+		ISolver solver = newSolver(at);
+		try
+		{
+			addConflictFree(solver, at);
+			addDefence(solver, at);
+			addOutside(solver, at, ext);
+		}
+		catch (ContradictionException e)
+		{
+			return true;
+		}
+		return isSatisfiable(solver) == false;
+	}
+
+	//function to check that ext is a preferred extension: admissible, and no admissible set strictly contains it
+
+	public static boolean isPreferredExtension(IndexedFramework at, long[] ext)
+	{
+		if(ExtensionChecker.isAdmissible(at, ext) == false)
+			return false;
+		ISolver solver = newSolver(at);
+		try
+		{
+			addConflictFree(solver, at);
+			addDefence(solver, at);
+			addOutside(solver, at, ext);
+			for (int a = IndexedDungTheory.nextSetBit(ext, 0); a >= 0; a = IndexedDungTheory.nextSetBit(ext, a + 1))
+				solver.addClause(new VecInt(new int[] {a + 1}));
+		}
+		catch (ContradictionException e)
+		{
+			return true;
+		}
+		return isSatisfiable(solver) == false;
+	}
+
+	private static ISolver newSolver(IndexedFramework at)
+	{
+		ISolver solver = SolverFactory.newDefault();
+		solver.newVar(at.size());
+		return solver;
+	}
+
+	//not (a and b) for every attack of b on a
+
+	private static void addConflictFree(ISolver solver, IndexedFramework at) throws ContradictionException
+	{
+		for (int a = 0; a < at.size(); a++)
+		{
+			long[] attackers = at.getAttackers(a);
+			for (int b = IndexedDungTheory.nextSetBit(attackers, 0); b >= 0; b = IndexedDungTheory.nextSetBit(attackers, b + 1))
+				solver.addClause(new VecInt(new int[] {-(a + 1), -(b + 1)}));
+		}
+	}
+
+	//a or one of its attackers, for every argument a
+
+	private static void addAttacksOutside(ISolver solver, IndexedFramework at) throws ContradictionException
+	{
+		for (int a = 0; a < at.size(); a++)
+		{
+			VecInt clause = new VecInt();
+			clause.push(a + 1);
+			pushAll(clause, at.getAttackers(a));
+			solver.addClause(clause);
+		}
+	}
+
+	//a implies one of the attackers of b, for every attack of b on a
+
+	private static void addDefence(ISolver solver, IndexedFramework at) throws ContradictionException
+	{
+		for (int a = 0; a < at.size(); a++)
+		{
+			long[] attackers = at.getAttackers(a);
+			for (int b = IndexedDungTheory.nextSetBit(attackers, 0); b >= 0; b = IndexedDungTheory.nextSetBit(attackers, b + 1))
+			{
+				VecInt clause = new VecInt();
+				clause.push(-(a + 1));
+				pushAll(clause, at.getAttackers(b));
+				solver.addClause(clause);
+			}
+		}
+	}
+
+	//the set differs from ext in at least one argument
+
+	private static void addDiffers(ISolver solver, IndexedFramework at, long[] ext) throws ContradictionException
+	{
+		VecInt clause = new VecInt();
+		for (int a = 0; a < at.size(); a++)
+			clause.push(IndexedDungTheory.contains(ext, a) ? -(a + 1) : (a + 1));
+		solver.addClause(clause);
+	}
+
+	//the set contains at least one argument outside ext
+
+	private static void addOutside(ISolver solver, IndexedFramework at, long[] ext) throws ContradictionException
+	{
+		VecInt clause = new VecInt();
+		for (int a = 0; a < at.size(); a++)
+		{
+			if(IndexedDungTheory.contains(ext, a) == false)
+				clause.push(a + 1);
+		}
+		solver.addClause(clause);
+	}
+
+	private static void pushAll(VecInt clause, long[] mask)
+	{
+		for (int a = IndexedDungTheory.nextSetBit(mask, 0); a >= 0; a = IndexedDungTheory.nextSetBit(mask, a + 1))
+			clause.push(a + 1);
+	}
+
+	private static boolean isSatisfiable(ISolver solver)
+	{
+		try
+		{
+			return solver.isSatisfiable();
+		}
+		catch (TimeoutException e)
+		{
+			throw new IllegalStateException("SAT solver timed out", e);
+		}
+	}
+
+}
@@ -0,0 +1,341 @@
+package mytweetyapp;
+
+/*
+ * Incremental SAT encoding of one base framework for preferred or stable semantics, reused for every
+ * DungTheoryOverlay built on the base. Every attack an overlay can have, an attack of the base or, in a reversible
+ * session, its reverse, gets a selector variable; an overlay is solved by assuming the selectors of its attacks true
+ * and the others false, so the clauses are built once and what the solver learns carries over from one preference
+ * set to the next.
+ * Variables: argument a is a+1; the possible attack k has selector n+1+2k and n+2+2k for "its attacker is in
+ * the set and the attack is present". Queries that need a clause on the set itself (it contains an argument
+ * outside a mask, or it differs from a mask) switch the clause on with an activation variable kept per mask.
+ * Every distinct mask adds a variable and a clause, so once MAX_ACTIVATIONS are kept the session encodes the
+ * framework again in a new solver, dropping them with what was learned.
+ * A session is not thread-safe; IndexedDungTheory hands out one session per thread with acquireSatSession.
+ */
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.sat4j.core.VecInt;
+import org.sat4j.minisat.SolverFactory;
+import org.sat4j.specs.ContradictionException;
+import org.sat4j.specs.ISolver;
+import org.sat4j.specs.TimeoutException;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+
+public class SatSession {
+
+	//activation variables kept before the framework is encoded again
+	public static final int MAX_ACTIVATIONS = 1024;
+
+	private final IndexedDungTheory base;
+	private final Semantics semantics;
+	private final boolean reversible;
+	private ISolver solver;
+	//possible attackers of each argument, as a row and as ids with the selector variable of each attack
+	private final long[][] possible;
+	private final int[][] attackerIds;
+	private final int[][] selectors;
+	private final Map<BitSet, Integer> outside = new HashMap<BitSet, Integer>();
+	private final Map<BitSet, Integer> differs = new HashMap<BitSet, Integer>();
+	//variables of the arguments and attacks, the activation variables come after them
+	private final int encodedVars;
+	private int vars;
+
+	public SatSession(IndexedDungTheory base, Semantics semantics, boolean reversible)
+	{
+		if((semantics != Semantics.PREFERRED_SEMANTICS) && (semantics != Semantics.STABLE_SEMANTICS))
+			throw new IllegalArgumentException("No SAT encoding for " + semantics);
+		this.base = base;
+		this.semantics = semantics;
+		this.reversible = reversible;
+		int n = base.size();
+		possible = new long[n][];
+		attackerIds = new int[n][];
+		selectors = new int[n][];
+		vars = n;
+		for (int a = 0; a < n; a++)
+		{
+			long[] row = base.getAttackers(a).clone();
+			if(reversible)
+			{
+				long[] attacked = base.getAttacked(a);
+				for (int w = 0; w < row.length; w++)
+					row[w] |= attacked[w];
+			}
+			possible[a] = row;
+			attackerIds[a] = new int[IndexedDungTheory.cardinality(row)];
+			selectors[a] = new int[attackerIds[a].length];
+			int k = 0;
+			for (int b = IndexedDungTheory.nextSetBit(row, 0); b >= 0; b = IndexedDungTheory.nextSetBit(row, b + 1))
+			{
+				attackerIds[a][k] = b;
+				selectors[a][k] = vars + 1;
+				vars += 2;
+				k++;
+			}
+		}
+		encodedVars = vars;
+		reset();
+	}
+
+	//number of activation variables currently kept
+
+	public int getNumberOfActivations()
+	{
+		return outside.size() + differs.size();
+	}
+
+	public IndexedDungTheory getBase()
+	{
+		return base;
+	}
+
+	public Semantics getSemantics()
+	{
+		return semantics;
+	}
+
+	public boolean isReversible()
+	{
+		return reversible;
+	}
+
+	//true if every attack of the framework is one the session has a selector for
+
+	public boolean covers(IndexedFramework at)
+	{
+		if(at.size() != base.size())
+			return false;
+		for (int a = 0; a < at.size(); a++)
+		{
+			long[] attackers = at.getAttackers(a);
+			for (int w = 0; w < attackers.length; w++)
+			{
+				if((attackers[w] & ~possible[a][w]) != 0)
+					return false;
+			}
+		}
+		return true;
+	}
+
+	//function to check that ext is an extension of the framework
+
+	public boolean isExtension(IndexedFramework at, long[] ext)
+	{
+		if(semantics == Semantics.STABLE_SEMANTICS)
+			return ExtensionChecker.isStable(at, ext);
+		return ExtensionChecker.isAdmissible(at, ext) && (solve(including(assume(at), ext), outside, ext) == null);
+	}
+
+	//function to check that ext is the only extension of the framework
+
+	public boolean isUniqueExtension(IndexedFramework at, long[] ext)
+	{
+		if(semantics == Semantics.STABLE_SEMANTICS)
+			return ExtensionChecker.isStable(at, ext) && (solve(assume(at), differs, ext) == null);
+		return ExtensionChecker.isAdmissible(at, ext) && (solve(assume(at), outside, ext) == null);
+	}
+
+	//function to get the category of the extensions of the framework for ext, as classifyExtensions does
+
+	public int classify(IndexedFramework at, long[] ext)
+	{
+		VecInt assumptions = assume(at);
+		if(semantics == Semantics.STABLE_SEMANTICS)
+		{
+			long[] first = solve(including(assumptions, ext), null, null);
+			if(first == null)
+				return -1;
+			if(solve(assumptions, differs, first) == null)
+				return Arrays.equals(first, ext) ? 0 : 1;
+			return ExtensionChecker.isStable(at, ext) ? 2 : 3;
+		}
+
+		//grow an admissible superset of ext to a preferred extension
+		long[] preferred = ext;
+		if(ExtensionChecker.isAdmissible(at, ext) == false)
+		{
+			preferred = solve(including(assumptions, ext), null, null);
+			if(preferred == null)
+				return -1;
+		}
+		preferred = grow(assumptions, preferred);
+		boolean unique = (solve(assumptions, outside, preferred) == null);
+		if(Arrays.equals(preferred, ext))
+			return unique ? 0 : 2;
+		return unique ? 1 : 3;
+	}
+
+	//function to find one extension of the framework without enumerating them, or null if there is none:
+	//for stable semantics the first model, for preferred semantics the grounded extension grown to a preferred one
+
+	public long[] findExtension(IndexedFramework at)
+	{
+		VecInt assumptions = assume(at);
+		if(semantics == Semantics.STABLE_SEMANTICS)
+			return solve(assumptions, null, null);
+		return grow(assumptions, GroundedSolver.solve(at));
+	}
+
+	//adds arguments to an admissible set while a larger admissible set exists, which ends at a preferred extension
+
+	private long[] grow(VecInt assumptions, long[] admissible)
+	{
+		long[] preferred = admissible;
+		long[] larger;
+		while ((larger = solve(including(assumptions, preferred), outside, preferred)) != null)
+			preferred = larger;
+		return preferred;
+	}
+
+	//encodes the framework in a new solver, without any activation variables
+
+	private void reset()
+	{
+		outside.clear();
+		differs.clear();
+		vars = encodedVars;
+		solver = SolverFactory.newDefault();
+		solver.newVar(vars);
+		try
+		{
+			encode();
+		}
+		catch (ContradictionException e)
+		{
+			//the clauses only forbid combinations, the empty set satisfies all of them
+			throw new IllegalStateException("Encoding is unsatisfiable", e);
+		}
+	}
+
+	private void encode() throws ContradictionException
+	{
+		for (int a = 0; a < attackerIds.length; a++)
+		{
+			int x = a + 1;
+			VecInt attackedByIn = new VecInt();
+			attackedByIn.push(x);
+			for (int k = 0; k < attackerIds[a].length; k++)
+			{
+				int y = attackerIds[a][k] + 1;
+				int s = selectors[a][k];
+				int d = s + 1;
+				//conflict-free, and d only where the attacker is in and the attack present
+				solver.addClause(new VecInt(new int[] {-s, -x, -y}));
+				solver.addClause(new VecInt(new int[] {-d, y}));
+				solver.addClause(new VecInt(new int[] {-d, s}));
+				attackedByIn.push(d);
+				if(semantics == Semantics.PREFERRED_SEMANTICS)
+				{
+					//a in the set and attacked by b: some argument of the set attacks b
+					int b = attackerIds[a][k];
+					VecInt defended = new VecInt();
+					defended.push(-s);
+					defended.push(-x);
+					for (int j = 0; j < selectors[b].length; j++)
+						defended.push(selectors[b][j] + 1);
+					solver.addClause(defended);
+				}
+			}
+			//stable: a is in the set or attacked by it
+			if(semantics == Semantics.STABLE_SEMANTICS)
+				solver.addClause(attackedByIn);
+		}
+	}
+
+	//selectors of the attacks of the framework true, the others false
+
+	private VecInt assume(IndexedFramework at)
+	{
+		if(covers(at) == false)
+			throw new IllegalArgumentException("Framework has attacks the session has no selector for");
+		VecInt assumptions = new VecInt();
+		for (int a = 0; a < attackerIds.length; a++)
+		{
+			long[] attackers = at.getAttackers(a);
+			for (int k = 0; k < attackerIds[a].length; k++)
+				assumptions.push(IndexedDungTheory.contains(attackers, attackerIds[a][k]) ? selectors[a][k] : -selectors[a][k]);
+		}
+		return assumptions;
+	}
+
+	private static VecInt including(VecInt assumptions, long[] mask)
+	{
+		VecInt extended = new VecInt(assumptions.size() + IndexedDungTheory.cardinality(mask));
+		assumptions.copyTo(extended);
+		for (int a = IndexedDungTheory.nextSetBit(mask, 0); a >= 0; a = IndexedDungTheory.nextSetBit(mask, a + 1))
+			extended.push(a + 1);
+		return extended;
+	}
+
+	//solves under the assumptions, with the clause of the family on mask switched on if a family is given;
+	//returns the arguments of the set found, or null if there is none
+
+	private long[] solve(VecInt assumptions, Map<BitSet, Integer> family, long[] mask)
+	{
+		VecInt query = assumptions;
+		if(family != null)
+		{
+			query = new VecInt(assumptions.size() + 1);
+			assumptions.copyTo(query);
+			query.push(activation(family, mask));
+		}
+		try
+		{
+			if(solver.isSatisfiable(query) == false)
+				return null;
+		}
+		catch (TimeoutException e)
+		{
+			throw new IllegalStateException("SAT solver timed out", e);
+		}
+		long[] model = new long[base.words()];
+		for (int a = 0; a < base.size(); a++)
+		{
+			if(solver.model(a + 1))
+				IndexedDungTheory.set(model, a);
+		}
+		return model;
+	}
+
+	private int activation(Map<BitSet, Integer> family, long[] mask)
+	{
+		BitSet key = BitSet.valueOf(mask);
+		Integer active = family.get(key);
+		if(active != null)
+			return active;
+		//the assumptions only use argument and selector variables, which keep their numbers in the new solver
+		if(getNumberOfActivations() >= MAX_ACTIVATIONS)
+			reset();
+		int act = ++vars;
+		solver.newVar(vars);
+		VecInt clause = new VecInt();
+		clause.push(-act);
+		for (int a = 0; a < base.size(); a++)
+		{
+			if(family == outside)
+			{
+				if(IndexedDungTheory.contains(mask, a) == false)
+					clause.push(a + 1);
+			}
+			else
+				clause.push(IndexedDungTheory.contains(mask, a) ? -(a + 1) : (a + 1));
+		}
+		try
+		{
+			solver.addClause(clause);
+		}
+		catch (ContradictionException e)
+		{
+			throw new IllegalStateException("Activation clause is unsatisfiable", e);
+		}
+		family.put(key, act);
+		return act;
+	}
+
+}
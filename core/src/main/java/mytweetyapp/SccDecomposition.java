@@ -0,0 +1,135 @@
+package mytweetyapp;
+
+/*
+ * Strongly connected components of an indexed framework, found with Tarjan's algorithm over the attacked rows.
+ * Components are numbered in topological order: every attacker of an argument outside its component lies in an
+ * earlier component, so the components can be solved one after the other as the SCC-recursive semantics do.
+ * The search keeps its own stack, so long chains of attacks do not overflow the thread stack.
+ */
+
+import java.util.Arrays;
+
+public class SccDecomposition {
+
+	private final int[] component;
+	//arguments ordered by component, those of component c from start[c] to start[c + 1]
+	private final int[] arguments;
+	private final int[] start;
+	private final int largest;
+	private final int words;
+
+	public SccDecomposition(IndexedFramework at)
+	{
+		int n = at.size();
+		words = at.words();
+		component = new int[n];
+		int[] index = new int[n];
+		int[] low = new int[n];
+		int[] next = new int[n];
+		int[] stack = new int[n];
+		int[] path = new int[n];
+		long[] onStack = new long[at.words()];
+		Arrays.fill(index, -1);
+		int counter = 0;
+		int top = 0;
+		int found = 0;
+		for (int root = 0; root < n; root++)
+		{
+			if(index[root] >= 0)
+				continue;
+			int depth = 0;
+			index[root] = low[root] = counter++;
+			stack[top++] = root;
+			IndexedDungTheory.set(onStack, root);
+			path[depth++] = root;
+			while (depth > 0)
+			{
+				int a = path[depth - 1];
+				int b = IndexedDungTheory.nextSetBit(at.getAttacked(a), next[a]);
+				if(b >= 0)
+				{
+					next[a] = b + 1;
+					if(index[b] < 0)
+					{
+						index[b] = low[b] = counter++;
+						stack[top++] = b;
+						IndexedDungTheory.set(onStack, b);
+						path[depth++] = b;
+					}
+					else if(IndexedDungTheory.contains(onStack, b))
+						low[a] = Math.min(low[a], index[b]);
+					continue;
+				}
+				depth--;
+				if(depth > 0)
+					low[path[depth - 1]] = Math.min(low[path[depth - 1]], low[a]);
+				if(low[a] == index[a])
+				{
+					int c;
+					do
+					{
+						c = stack[--top];
+						IndexedDungTheory.clear(onStack, c);
+						component[c] = found;
+					} while (c != a);
+					found++;
+				}
+			}
+		}
+
+		//Tarjan closes a component after all the components it attacks, so reverse the numbering to put attackers first
+		start = new int[found + 1];
+		for (int a = 0; a < n; a++)
+		{
+			component[a] = found - 1 - component[a];
+			start[component[a] + 1]++;
+		}
+		int max = 0;
+		for (int c = 0; c < found; c++)
+		{
+			max = Math.max(max, start[c + 1]);
+			start[c + 1] += start[c];
+		}
+		largest = max;
+		arguments = new int[n];
+		int[] fill = Arrays.copyOf(start, found);
+		for (int a = 0; a < n; a++)
+			arguments[fill[component[a]]++] = a;
+	}
+
+	public int getNumberOfComponents()
+	{
+		return start.length - 1;
+	}
+
+	public int getComponent(int a)
+	{
+		return component[a];
+	}
+
+	public int getSize(int c)
+	{
+		return start[c + 1] - start[c];
+	}
+
+	public int getLargestComponentSize()
+	{
+		return largest;
+	}
+
+	//ids of the arguments of component c, in increasing order
+
+	public int[] getArguments(int c)
+	{
+		return Arrays.copyOfRange(arguments, start[c], start[c + 1]);
+	}
+
+	public long[] toMask(int c)
+	{
+		long[] mask = new long[words];
+		for (int i = start[c]; i < start[c + 1]; i++)
+			IndexedDungTheory.set(mask, arguments[i]);
+		return mask;
+	}
+
+}
@@ -0,0 +1,195 @@
+package mytweetyapp;
+
+/*
+ * Preferred semantics checked one strongly connected component at a time, following the SCC-recursive scheme,
+ * so the SAT queries are on the largest component instead of on the whole framework.
+ * ext must be admissible. In component C, the arguments attacked by ext from an earlier component are out, and
+ * those attacked from an earlier component by an argument that is neither in ext nor attacked by it can never be
+ * defended: they stay in C as attackers but cannot be in a set. Of the admissible sets of what is left of C, the
+ * part of ext in C must be maximal, and for uniqueness the only maximal one. Preferred semantics is directional, so
+ * this holds for every component exactly when ext is a preferred extension, or the only one, of the whole framework.
+ * Given ext, the check of a component only reads ext and the arguments it attacks, so the components need not go in
+ * topological order: they are checked smallest first, and a set that fails in a small component is rejected before
+ * any query on a large one. A component of one argument is decided without a solver, so an acyclic framework is
+ * checked in linear time.
+ */
+
+import java.util.Arrays;
+
+import org.sat4j.core.VecInt;
+import org.sat4j.minisat.SolverFactory;
+import org.sat4j.specs.ContradictionException;
+import org.sat4j.specs.ISolver;
+import org.sat4j.specs.TimeoutException;
+
+public class SccExtensionSolver {
+
+	//function to check that ext is the unique preferred extension of the framework
+
+	public static boolean isUniquePreferredExtension(IndexedFramework at, long[] ext)
+	{
+		return isUniquePreferredExtension(at, new SccDecomposition(at), ext);
+	}
+
+	public static boolean isUniquePreferredExtension(IndexedFramework at, SccDecomposition sccs, long[] ext)
+	{
+		return check(at, sccs, ext, true);
+	}
+
+	//function to check that ext is a preferred extension of the framework
+
+	public static boolean isPreferredExtension(IndexedFramework at, long[] ext)
+	{
+		return isPreferredExtension(at, new SccDecomposition(at), ext);
+	}
+
+	public static boolean isPreferredExtension(IndexedFramework at, SccDecomposition sccs, long[] ext)
+	{
+		return check(at, sccs, ext, false);
+	}
+
+	private static boolean check(IndexedFramework at, SccDecomposition sccs, long[] ext, boolean unique)
+	{
+		if(ExtensionChecker.isAdmissible(at, ext) == false)
+			return false;
+		long[] attacked = ExtensionChecker.getAttackedArguments(at, ext);
+
+		//components of one argument first, then the others smallest first, each as size in the high and id in the low 32 bits
+		long[] larger = new long[sccs.getNumberOfComponents()];
+		int count = 0;
+		for (int c = 0; c < sccs.getNumberOfComponents(); c++)
+		{
+			if(sccs.getSize(c) > 1)
+				larger[count++] = ((long) sccs.getSize(c) << 32) | c;
+			else if(isMaximal(at, sccs.getArguments(c)[0], ext, attacked) == false)
+				return false;
+		}
+		Arrays.sort(larger, 0, count);
+		int[] vars = new int[at.size()];
+		for (int i = 0; i < count; i++)
+		{
+			if(isMaximal(at, sccs, (int) larger[i], ext, attacked, unique, vars) == false)
+				return false;
+		}
+		return true;
+	}
+
+	//a component of one argument a: a is in the maximal set unless it is out, cannot be defended or attacks itself
+
+	private static boolean isMaximal(IndexedFramework at, int a, long[] ext, long[] attacked)
+	{
+		long[] outside = at.getAttackers(a).clone();
+		boolean selfAttack = IndexedDungTheory.contains(outside, a);
+		IndexedDungTheory.clear(outside, a);
+		boolean accepted = (selfAttack == false) && (isOut(outside, ext) == false) && (isBlocked(outside, ext, attacked) == false);
+		return IndexedDungTheory.contains(ext, a) == accepted;
+	}
+
+	//true if no admissible set of what is left of component c strictly contains the part of ext in c,
+	//and with unique, if no admissible set has an argument outside ext at all
+
+	private static boolean isMaximal(IndexedFramework at, SccDecomposition sccs, int c, long[] ext, long[] attacked, boolean unique, int[] vars)
+	{
+		int[] members = sccs.getArguments(c);
+		long[] mask = sccs.toMask(c);
+		long[] out = new long[at.words()];
+		long[] candidates = new long[at.words()];
+		int count = 0;
+		boolean open = false;
+		for (int a : members)
+		{
+			long[] outside = without(at.getAttackers(a), mask);
+			if(isOut(outside, ext))
+				IndexedDungTheory.set(out, a);
+			else if(isBlocked(outside, ext, attacked) == false)
+			{
+				IndexedDungTheory.set(candidates, a);
+				vars[a] = ++count;
+				open |= (IndexedDungTheory.contains(ext, a) == false);
+			}
+		}
+		//ext is admissible, so its part in c is an admissible set of the candidates; it is maximal if nothing is left to add
+		if(open == false)
+			return true;
+
+		ISolver solver = SolverFactory.newDefault();
+		solver.newVar(count);
+		try
+		{
+			VecInt added = new VecInt();
+			for (int q : members)
+			{
+				if(IndexedDungTheory.contains(candidates, q) == false)
+					continue;
+				long[] attackers = at.getAttackers(q);
+				for (int r = IndexedDungTheory.nextSetBit(attackers, 0); r >= 0; r = IndexedDungTheory.nextSetBit(attackers, r + 1))
+				{
+					//attackers outside c are attacked by ext, and those that are out are attacked by ext from outside c
+					if((IndexedDungTheory.contains(mask, r) == false) || IndexedDungTheory.contains(out, r))
+						continue;
+					if(IndexedDungTheory.contains(candidates, r))
+						solver.addClause((r == q) ? new VecInt(new int[] {-vars[q]}) : new VecInt(new int[] {-vars[q], -vars[r]}));
+					VecInt defended = new VecInt();
+					defended.push(-vars[q]);
+					long[] defenders = at.getAttackers(r);
+					for (int d = IndexedDungTheory.nextSetBit(defenders, 0); d >= 0; d = IndexedDungTheory.nextSetBit(defenders, d + 1))
+					{
+						if(IndexedDungTheory.contains(candidates, d))
+							defended.push(vars[d]);
+					}
+					solver.addClause(defended);
+				}
+				if(IndexedDungTheory.contains(ext, q) == false)
+					added.push(vars[q]);
+				else if(unique == false)
+					solver.addClause(new VecInt(new int[] {vars[q]}));
+			}
+			solver.addClause(added);
+		}
+		catch (ContradictionException e)
+		{
+			return true;
+		}
+		try
+		{
+			return solver.isSatisfiable() == false;
+		}
+		catch (TimeoutException e)
+		{
+			throw new IllegalStateException("SAT solver timed out", e);
+		}
+	}
+
+	//attacked from outside its component by ext
+
+	private static boolean isOut(long[] outside, long[] ext)
+	{
+		for (int w = 0; w < outside.length; w++)
+		{
+			if((outside[w] & ext[w]) != 0)
+				return true;
+		}
+		return false;
+	}
+
+	//attacked from outside its component by an argument that is neither in ext nor attacked by it
+
+	private static boolean isBlocked(long[] outside, long[] ext, long[] attacked)
+	{
+		for (int w = 0; w < outside.length; w++)
+		{
+			if((outside[w] & ~ext[w] & ~attacked[w]) != 0)
+				return true;
+		}
+		return false;
+	}
+
+	private static long[] without(long[] row, long[] mask)
+	{
+		long[] rest = new long[row.length];
+		for (int w = 0; w < row.length; w++)
+			rest[w] = row[w] & ~mask[w];
+		return rest;
+	}
+
+}
@@ -0,0 +1,309 @@
+package mytweetyapp;
+
+/*
+ * Settings of an experiment sweep, read from the command line and optionally from a properties file.
+ * Sizes and probabilities are lists of values and inclusive ranges, e.g. "4:20:2,24" or "0.25:0.75:0.25";
+ * semantics are given by name, e.g. "grounded,preferred". Command line options override the config file.
+ * log sets the console output (off, info, the default, or debug) and trace a JSONL file for the per-set diagnostics.
+ * fused verifies attack removal and attack reversal in one pass, reporting the shared time for both methods.
+ * early-exit stops verifying all preference sets at the first incorrect one, so the V1/V2 times become the time to
+ * that set instead of a full pass.
+ * samples draws that many approximate preference sets per instance and reports how many of them are correct.
+ * fused and early-exit take true or false in any case, anything else is an error rather than false.
+ * Values are checked as they are set, and a bad one is reported as an IllegalArgumentException, which the drivers
+ * print with the usage.
+ */
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+
+public class SweepConfig {
+
+	private List<Integer> sizes = new ArrayList<Integer>();
+	private List<Double> probabilities = new ArrayList<Double>();
+	private List<Semantics> semantics = new ArrayList<Semantics>();
+	private int instances = 10;
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+	private String output = "results";
+	private PreferenceLog.Level log = PreferenceLog.Level.INFO;
+	private String trace = null;
+	private boolean fused = false;
+	private boolean earlyExit = false;
+	private int samples = 0;
+
+	public SweepConfig(String sizes, String probabilities, String semantics, String output)
+	{
+		set("sizes", sizes);
+		set("probabilities", probabilities);
+		set("semantics", semantics);
+		set("output", output);
+	}
+
+	public static String usage()
+	{
+		return "options: [--config file] [--sizes 4:20:2,24] [--probabilities 0.25:0.75:0.25] [--semantics grounded,preferred,stable]"
+				+ " [--instances 10] [--parallelism n] [--output dir] [--log off|info|debug] [--trace file.jsonl]"
+				+ " [--fused true|false] [--early-exit true|false] [--samples n]";
+	}
+
+	//function to apply the command line options, reading the config file first if one is given
+
+	public SweepConfig parse(String[] args) throws IOException
+	{
+		if(args.length % 2 != 0)
+			throw new IllegalArgumentException("Missing value for option " + args[args.length - 1]);
+		for (int i = 0; i < args.length; i += 2)
+		{
+			if(args[i].equals("--config"))
+				load(args[i + 1]);
+		}
+		for (int i = 0; i < args.length; i += 2)
+		{
+			if(args[i].startsWith("--") == false)
+				throw new IllegalArgumentException("Unknown option " + args[i]);
+			if(args[i].equals("--config") == false)
+				set(args[i].substring(2), args[i + 1]);
+		}
+		return this;
+	}
+
+	public void load(String file) throws IOException
+	{
+		Properties properties = new Properties();
+		try (Reader reader = new FileReader(file))
+		{
+			properties.load(reader);
+		}
+		for (String key : properties.stringPropertyNames())
+			set(key, properties.getProperty(key).trim());
+	}
+
+	public void set(String key, String value)
+	{
+		switch(key)
+		{
+		case "sizes":
+			sizes = new ArrayList<Integer>();
+			for (BigDecimal v : parseValues(key, value))
+				sizes.add(parseCount(key, v.toPlainString()));
+			break;
+		case "probabilities":
+			probabilities = new ArrayList<Double>();
+			for (BigDecimal v : parseValues(key, value))
+			{
+				if((v.signum() < 0) || (v.compareTo(BigDecimal.ONE) > 0))
+					throw new IllegalArgumentException("Value of " + key + " must be between 0 and 1: " + v.toPlainString());
+				probabilities.add(v.doubleValue());
+			}
+			break;
+		case "semantics":
+			semantics = new ArrayList<Semantics>();
+			for (String name : value.split(","))
+				semantics.add(parseSemantics(name.trim()));
+			break;
+		case "instances":
+			instances = parseCount(key, value);
+			break;
+		case "parallelism":
+			parallelism = parseCount(key, value);
+			break;
+		case "output":
+			output = value;
+			break;
+		case "log":
+			log = parseLevel(value);
+			break;
+		case "trace":
+			trace = value;
+			break;
+		case "fused":
+			fused = parseBoolean(key, value);
+			break;
+		case "early-exit":
+			earlyExit = parseBoolean(key, value);
+			break;
+		case "samples":
+			samples = parseCount(key, value);
+			break;
+		default:
+			throw new IllegalArgumentException("Unknown option " + key);
+		}
+	}
+
+	public List<Integer> getSizes()
+	{
+		return sizes;
+	}
+
+	public List<Double> getProbabilities()
+	{
+		return probabilities;
+	}
+
+	public List<Semantics> getSemantics()
+	{
+		return semantics;
+	}
+
+	public int getInstances()
+	{
+		return instances;
+	}
+
+	public int getParallelism()
+	{
+		return parallelism;
+	}
+
+	public String getOutput()
+	{
+		return output;
+	}
+
+	public PreferenceLog.Level getLog()
+	{
+		return log;
+	}
+
+	//trace file, or null if no trace is written
+
+	public String getTrace()
+	{
+		return trace;
+	}
+
+	//true if both verification methods run in one pass
+
+	public boolean isFused()
+	{
+		return fused;
+	}
+
+	//true if the verification of all preference sets stops at the first incorrect set
+
+	public boolean isEarlyExit()
+	{
+		return earlyExit;
+	}
+
+	//number of approximate preference sets sampled per instance, 0 if there is no sampling
+
+	public int getSamples()
+	{
+		return samples;
+	}
+
+	//short name of the semantics, used for its output directory
+
+	public static String getName(Semantics s)
+	{
+		switch(s)
+		{
+		case GROUNDED_SEMANTICS:
+			return "grounded";
+		case PREFERRED_SEMANTICS:
+			return "preferred";
+		case STABLE_SEMANTICS:
+			return "stable";
+		default:
+			return s.name().toLowerCase();
+		}
+	}
+
+	private static Semantics parseSemantics(String name)
+	{
+		for (Semantics s : new Semantics[] {Semantics.GROUNDED_SEMANTICS, Semantics.PREFERRED_SEMANTICS, Semantics.STABLE_SEMANTICS})
+		{
+			if(getName(s).equalsIgnoreCase(name) || s.name().equalsIgnoreCase(name))
+				return s;
+		}
+		throw new IllegalArgumentException("Unsupported semantics " + name);
+	}
+
+	private static PreferenceLog.Level parseLevel(String name)
+	{
+		for (PreferenceLog.Level level : PreferenceLog.Level.values())
+		{
+			if(level.name().equalsIgnoreCase(name))
+				return level;
+		}
+		throw new IllegalArgumentException("Unsupported log level " + name);
+	}
+
+	//a whole number of at least 1, as sizes, instances and parallelism must be
+
+	private static int parseCount(String key, String value)
+	{
+		int count;
+		try
+		{
+			count = Integer.parseInt(value.trim());
+		}
+		catch (NumberFormatException e)
+		{
+			throw new IllegalArgumentException("Value of " + key + " is not a whole number: " + value);
+		}
+		if(count < 1)
+			throw new IllegalArgumentException("Value of " + key + " must be at least 1: " + value);
+		return count;
+	}
+
+	//true or false in any case, so a misspelt switch is reported instead of read as false
+
+	private static boolean parseBoolean(String key, String value)
+	{
+		if(value.trim().equalsIgnoreCase("true"))
+			return true;
+		if(value.trim().equalsIgnoreCase("false"))
+			return false;
+		throw new IllegalArgumentException("Value of " + key + " must be true or false: " + value);
+	}
+
+	//values and from:to or from:to:step ranges separated by commas, stepped in decimal so 0.1 steps do not drift
+
+	private static List<BigDecimal> parseValues(String key, String value)
+	{
+		List<BigDecimal> values = new ArrayList<BigDecimal>();
+		for (String part : value.split(","))
+		{
+			String[] range = part.trim().split(":");
+			if(range.length == 1)
+			{
+				values.add(parseDecimal(key, range[0]));
+				continue;
+			}
+			if(range.length > 3)
+				throw new IllegalArgumentException("Bad range " + part);
+			BigDecimal from = parseDecimal(key, range[0]);
+			BigDecimal to = parseDecimal(key, range[1]);
+			BigDecimal step = (range.length == 3) ? parseDecimal(key, range[2]) : BigDecimal.ONE;
+			if(step.signum() <= 0)
+				throw new IllegalArgumentException("Bad step in range " + part);
+			for (BigDecimal v = from; v.compareTo(to) <= 0; v = v.add(step))
+				values.add(v);
+		}
+		if(values.isEmpty())
+			throw new IllegalArgumentException("No values for " + key + ": " + value);
+		return values;
+	}
+
+	private static BigDecimal parseDecimal(String key, String value)
+	{
+		try
+		{
+			return new BigDecimal(value.trim());
+		}
+		catch (NumberFormatException e)
+		{
+			throw new IllegalArgumentException("Value of " + key + " is not a number: " + value);
+		}
+	}
+
+}
@@ -0,0 +1,124 @@
+package mytweetyapp;
+
+/*
+ * Best-of-N sampling with fixed seeds: every set the sampler keeps passes the serial check of its method, the
+ * same seed keeps the same sets in the same order, stopping at the first correct set finds one whenever the full
+ * run does, and the success rate is the fraction of the verified samples kept.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class ApproximatePreferenceSamplerTest {
+
+	private static final Semantics[] SEMANTICS = {Semantics.GROUNDED_SEMANTICS, Semantics.PREFERRED_SEMANTICS, Semantics.STABLE_SEMANTICS};
+	private static final int SAMPLES = 40;
+
+	private static ForkJoinPool pool;
+
+	@BeforeClass
+	public static void setUp()
+	{
+		pool = new ForkJoinPool(4);
+	}
+
+	@AfterClass
+	public static void tearDown()
+	{
+		pool.shutdown();
+	}
+
+	private static List<DungTheory> frameworks()
+	{
+		List<DungTheory> frameworks = TestFrameworks.generated(new int[] {6, 9}, new double[] {0.15, 0.3}, 3, 9);
+		frameworks.addAll(TestFrameworks.components(3, 4, 8));
+		return frameworks;
+	}
+
+	private static SampledPreferences sample(ApproximatePreferenceSampler sampler, DungTheory at, Set<Argument> ext, long seed, boolean firstOnly, boolean reverse)
+	{
+		SplittableRandom rand = new SplittableRandom(seed);
+		return reverse ? sampler.samplePreferences2(at, ext, SAMPLES, rand, firstOnly) : sampler.samplePreferences1(at, ext, SAMPLES, rand, firstOnly);
+	}
+
+	private static boolean isCorrect(DungTheory at, EncodedPreferenceSet prefs, Set<Argument> ext, Semantics semantics, boolean reverse)
+	{
+		return reverse ? ArgumentationPreferences.verifyApproximatePreferences2(at, prefs, ext, semantics, new ReasonerRegistry(0))
+				: ArgumentationPreferences.verifyApproximatePreferences1(at, prefs, ext, semantics, new ReasonerRegistry(0));
+	}
+
+	private static List<Set<Preference>> toPreferences(SampledPreferences sampled)
+	{
+		List<Set<Preference>> sets = new ArrayList<Set<Preference>>();
+		for (EncodedPreferenceSet prefs : sampled.getCorrectSets())
+			sets.add(prefs.toPreferences());
+		return sets;
+	}
+
+	@Test
+	public void sampledSetsAreCorrectAndRepeatable()
+	{
+		int correct = 0;
+		for (DungTheory at : frameworks())
+		{
+			for (Semantics semantics : SEMANTICS)
+			{
+				ApproximatePreferenceSampler sampler = new ApproximatePreferenceSampler(pool, semantics, new ReasonerRegistry(0));
+				for (Set<Argument> ext : TestFrameworks.nonEmptyExtensions(at, semantics))
+				{
+					for (boolean reverse : new boolean[] {false, true})
+					{
+						SampledPreferences sampled = sample(sampler, at, ext, 21, false, reverse);
+						assertEquals(SAMPLES, sampled.getSamples());
+						for (EncodedPreferenceSet prefs : sampled.getCorrectSets())
+							assertTrue(isCorrect(at, prefs, ext, semantics, reverse));
+						assertEquals(toPreferences(sampled), toPreferences(sample(sampler, at, ext, 21, false, reverse)));
+
+						SampledPreferences first = sample(sampler, at, ext, 21, true, reverse);
+						if(sampled.getCorrect() > 0)
+						{
+							assertNotNull(first.getFirst());
+							assertTrue(isCorrect(at, first.getFirst(), ext, semantics, reverse));
+						}
+						else
+							assertNull(first.getFirst());
+						correct += sampled.getCorrect();
+					}
+				}
+			}
+		}
+		assertTrue(correct > 0);
+	}
+
+	@Test
+	public void successRateIsCorrectFraction()
+	{
+		ApproximatePreferenceSampler sampler = new ApproximatePreferenceSampler(pool);
+		for (DungTheory at : frameworks())
+		{
+			for (Set<Argument> ext : TestFrameworks.nonEmptyExtensions(at, Semantics.GROUNDED_SEMANTICS))
+			{
+				SampledPreferences sampled = sampler.samplePreferences1(at, ext, SAMPLES, new SplittableRandom(23), false);
+				assertEquals((double) sampled.getCorrect() / SAMPLES, sampled.getSuccessRate(), 0);
+				assertEquals(0, sampler.samplePreferences1(at, ext, 0, new SplittableRandom(23), false).getSuccessRate(), 0);
+			}
+		}
+	}
+
+}
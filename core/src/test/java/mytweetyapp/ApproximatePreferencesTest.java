@@ -0,0 +1,51 @@
+package mytweetyapp;
+
+/*
+ * Approximate preference sets on generated frameworks and on frameworks with several components: every set drawn
+ * is a set of the preference space of the extension, and the same seed draws the same sets.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class ApproximatePreferencesTest {
+
+	private static List<DungTheory> frameworks()
+	{
+		List<DungTheory> frameworks = TestFrameworks.generated(new int[] {4, 6, 8}, new double[] {0.2, 0.4}, 4, 1);
+		frameworks.addAll(TestFrameworks.components(3, 6, 2));
+		return frameworks;
+	}
+
+	@Test
+	public void approximatePreferencesLieInSpace()
+	{
+		for (DungTheory at : frameworks())
+		{
+			for (Set<Argument> ext : TestFrameworks.nonEmptyExtensions(at, Semantics.GROUNDED_SEMANTICS))
+			{
+				PreferenceSetEnumerator space = ArgumentationPreferences.ComputeAllPreferenceSpace(at, ext);
+				SplittableRandom rand = new SplittableRandom(3);
+				for (int i = 0; i < 10; i++)
+				{
+					EncodedPreferenceSet prefs = ArgumentationPreferences.ComputeApproximatePreferencesEncoded(at, ext, rand);
+					assertTrue(space.contains(prefs.toPreferences()));
+				}
+				//the same seed gives the same sets
+				assertEquals(ArgumentationPreferences.ComputeApproximatePreferences(at, ext, new SplittableRandom(5)),
+						ArgumentationPreferences.ComputeApproximatePreferences(at, ext, new SplittableRandom(5)));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,84 @@
+package mytweetyapp;
+
+/*
+ * The search for an incorrect preference set against the serial verifyEncodedPreferences1/2: it finds a set exactly
+ * when not all sets are correct, and the set it finds is one of the space that the serial check rejects, for
+ * grounded, preferred and stable semantics.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class EarlyExitVerificationTest {
+
+	private static final Semantics[] SEMANTICS = {Semantics.GROUNDED_SEMANTICS, Semantics.PREFERRED_SEMANTICS, Semantics.STABLE_SEMANTICS};
+
+	private static ForkJoinPool pool;
+
+	@BeforeClass
+	public static void setUp()
+	{
+		pool = new ForkJoinPool(4);
+	}
+
+	@AfterClass
+	public static void tearDown()
+	{
+		pool.shutdown();
+	}
+
+	@Test
+	public void incorrectSetFoundIffNotAllCorrect()
+	{
+		int found = 0;
+		for (DungTheory at : TestFrameworks.verified())
+		{
+			for (boolean extended : new boolean[] {false, true})
+			{
+				Set<Argument> ext = TestFrameworks.grounded(at, extended);
+				if(ext.isEmpty())
+					continue;
+				PreferenceSetEnumerator prefSets = PreferenceSetEnumerator.forExtension(at, ext);
+				for (Semantics semantics : SEMANTICS)
+				{
+					boolean correct1 = ArgumentationPreferences.verifyEncodedPreferences1(at, prefSets.encoded(), ext, semantics, new ReasonerRegistry(0))[0] == prefSets.size();
+					boolean correct2 = ArgumentationPreferences.verifyEncodedPreferences2(at, prefSets.encoded(), ext, semantics, new ReasonerRegistry(0))[0] == prefSets.size();
+
+					ParallelPreferenceVerifier verifier = new ParallelPreferenceVerifier(pool, semantics, new ReasonerRegistry(0));
+					EncodedPreferenceSet witness1 = verifier.findIncorrectPreferences1(at, prefSets.encoded(), ext);
+					EncodedPreferenceSet witness2 = verifier.findIncorrectPreferences2(at, prefSets.encoded(), ext);
+					assertEquals(correct1, witness1 == null);
+					assertEquals(correct2, witness2 == null);
+
+					//a witness is a set of the space that the serial check rejects
+					if(witness1 != null)
+					{
+						assertTrue(prefSets.contains(witness1));
+						assertFalse(ArgumentationPreferences.verifyApproximatePreferences1(at, witness1, ext, semantics, new ReasonerRegistry(0)));
+						found++;
+					}
+					if(witness2 != null)
+					{
+						assertTrue(prefSets.contains(witness2));
+						assertFalse(ArgumentationPreferences.verifyApproximatePreferences2(at, witness2, ext, semantics, new ReasonerRegistry(0)));
+						found++;
+					}
+				}
+			}
+		}
+		assertTrue(found > 0);
+	}
+
+}
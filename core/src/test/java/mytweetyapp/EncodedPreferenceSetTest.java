@@ -0,0 +1,62 @@
+package mytweetyapp;
+
+/*
+ * The bit-encoded preference sets against the Set-based ones: ComputeAllPreferencesEncoded yields the sets of the
+ * original algorithm, each once, and encoding a set of the original algorithm and converting it back gives it again.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class EncodedPreferenceSetTest {
+
+	private static List<DungTheory> frameworks()
+	{
+		List<DungTheory> frameworks = TestFrameworks.generated(new int[] {4, 6, 8}, new double[] {0.2, 0.4}, 4, 1);
+		frameworks.addAll(TestFrameworks.components(3, 6, 2));
+		return frameworks;
+	}
+
+	@Test
+	public void encodedPreferencesMatchBaseline()
+	{
+		int checked = 0;
+		for (DungTheory at : frameworks())
+		{
+			for (Semantics semantics : new Semantics[] {Semantics.GROUNDED_SEMANTICS, Semantics.PREFERRED_SEMANTICS})
+			{
+				for (Set<Argument> ext : TestFrameworks.nonEmptyExtensions(at, semantics))
+				{
+					Set<Set<Preference>> expected = TestFrameworks.preferenceSets(at, ext);
+					List<EncodedPreferenceSet> encoded = ArgumentationPreferences.ComputeAllPreferencesEncoded(at, ext);
+					assertEquals(expected.size(), new HashSet<EncodedPreferenceSet>(encoded).size());
+					Set<Set<Preference>> decoded = new HashSet<Set<Preference>>();
+					for (EncodedPreferenceSet prefs : encoded)
+						decoded.add(prefs.toPreferences());
+					assertEquals(expected, decoded);
+
+					PreferenceSlots slots = encoded.get(0).getSlots();
+					for (Set<Preference> prefs : expected)
+					{
+						EncodedPreferenceSet round = slots.encode(prefs);
+						assertEquals(prefs.size(), round.size());
+						assertEquals(prefs, round.toPreferences());
+					}
+					checked++;
+				}
+			}
+		}
+		assertTrue(checked > 0);
+	}
+
+}
@@ -0,0 +1,111 @@
+package mytweetyapp;
+
+/*
+ * The direct checks on a candidate set against their definitions, read pair by pair off the attacks, and against
+ * the grounded and stable extensions tweety computes for the same overlay, for every subset of the arguments.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class ExtensionCheckerTest {
+
+	@Test
+	public void checksMatchDefinitions()
+	{
+		int complete = 0;
+		for (DungTheory at : TestFrameworks.checked())
+		{
+			for (DungTheoryOverlay view : TestFrameworks.overlays(at, 29))
+			{
+				for (Set<Argument> ext : TestFrameworks.subsets(at))
+				{
+					long[] mask = view.toMask(ext);
+					boolean conflictFree = isConflictFree(view, mask);
+					boolean admissible = conflictFree;
+					boolean fixpoint = true;
+					for (int a = 0; a < view.size(); a++)
+					{
+						boolean in = IndexedDungTheory.contains(mask, a);
+						boolean defended = isDefended(view, mask, a);
+						admissible &= (in == false) || defended;
+						fixpoint &= (in == defended);
+					}
+					assertEquals(conflictFree, ExtensionChecker.isConflictFree(view, mask));
+					assertEquals(admissible, ExtensionChecker.isAdmissible(view, mask));
+					assertEquals(conflictFree && fixpoint, ExtensionChecker.isComplete(view, mask));
+					if(conflictFree && fixpoint)
+						complete++;
+				}
+			}
+		}
+		assertTrue(complete > 0);
+	}
+
+	@Test
+	public void checksMatchEnumeration()
+	{
+		ReasonerRegistry reference = new ReasonerRegistry();
+		for (DungTheory at : TestFrameworks.checked())
+		{
+			List<Set<Argument>> subsets = TestFrameworks.subsets(at);
+			for (DungTheoryOverlay view : TestFrameworks.overlays(at, 31))
+			{
+				Set<Set<Argument>> grounded = reference.getModels(view, Semantics.GROUNDED_SEMANTICS);
+				Set<Set<Argument>> stable = reference.getModels(view, Semantics.STABLE_SEMANTICS);
+				Set<Set<Argument>> preferred = reference.getModels(view, Semantics.PREFERRED_SEMANTICS);
+				for (Set<Argument> ext : subsets)
+				{
+					long[] mask = view.toMask(ext);
+					assertEquals(grounded.contains(ext), ExtensionChecker.isExtension(view, mask, Semantics.GROUNDED_SEMANTICS));
+					assertEquals(stable.contains(ext), ExtensionChecker.isExtension(view, mask, Semantics.STABLE_SEMANTICS));
+					assertEquals(stable.contains(ext), ExtensionChecker.isStable(view, mask));
+					assertEquals(preferred.contains(ext), ExtensionChecker.isExtension(view, mask, Semantics.PREFERRED_SEMANTICS));
+					//every preferred extension is complete
+					if(preferred.contains(ext))
+						assertTrue(ExtensionChecker.isComplete(view, mask));
+				}
+			}
+		}
+	}
+
+	private static boolean isConflictFree(IndexedFramework at, long[] ext)
+	{
+		for (int a = IndexedDungTheory.nextSetBit(ext, 0); a >= 0; a = IndexedDungTheory.nextSetBit(ext, a + 1))
+		{
+			for (int b = IndexedDungTheory.nextSetBit(ext, 0); b >= 0; b = IndexedDungTheory.nextSetBit(ext, b + 1))
+			{
+				if(at.isAttackedBy(a, b))
+					return false;
+			}
+		}
+		return true;
+	}
+
+	//every attacker of a is attacked by an argument of ext
+
+	private static boolean isDefended(IndexedFramework at, long[] ext, int a)
+	{
+		for (int b = 0; b < at.size(); b++)
+		{
+			if(at.isAttackedBy(a, b) == false)
+				continue;
+			boolean countered = false;
+			for (int c = IndexedDungTheory.nextSetBit(ext, 0); c >= 0; c = IndexedDungTheory.nextSetBit(ext, c + 1))
+				countered |= at.isAttackedBy(b, c);
+			if(countered == false)
+				return false;
+		}
+		return true;
+	}
+
+}
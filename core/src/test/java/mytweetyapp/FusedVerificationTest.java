@@ -0,0 +1,126 @@
+package mytweetyapp;
+
+/*
+ * Attack removal and attack reversal verified in one pass against the serial verifyEncodedPreferences1/2: the fused
+ * counts of the parallel verifier and of the serial verifyEncodedPreferences equal the separate counts, and the fused
+ * search finds a set for a method exactly when not all sets are correct under it, for grounded, preferred and stable
+ * semantics.
+ */
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.commons.math3.util.Pair;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class FusedVerificationTest {
+
+	private static final Semantics[] SEMANTICS = {Semantics.GROUNDED_SEMANTICS, Semantics.PREFERRED_SEMANTICS, Semantics.STABLE_SEMANTICS};
+
+	private static ForkJoinPool pool;
+	private static PreferenceLog log;
+
+	@BeforeClass
+	public static void setUp()
+	{
+		pool = new ForkJoinPool(4);
+		log = PreferenceLog.get();
+		PreferenceLog.set(PreferenceLog.OFF);
+	}
+
+	@AfterClass
+	public static void tearDown()
+	{
+		pool.shutdown();
+		PreferenceLog.set(log);
+	}
+
+	@Test
+	public void fusedCountsMatchSeparate()
+	{
+		int incorrect = 0;
+		for (DungTheory at : TestFrameworks.verified())
+		{
+			for (boolean extended : new boolean[] {false, true})
+			{
+				Set<Argument> ext = TestFrameworks.grounded(at, extended);
+				if(ext.isEmpty())
+					continue;
+				PreferenceSetEnumerator prefSets = PreferenceSetEnumerator.forExtension(at, ext);
+				for (Semantics semantics : SEMANTICS)
+				{
+					int[] serial1 = ArgumentationPreferences.verifyEncodedPreferences1(at, prefSets.encoded(), ext, semantics, new ReasonerRegistry(0));
+					int[] serial2 = ArgumentationPreferences.verifyEncodedPreferences2(at, prefSets.encoded(), ext, semantics, new ReasonerRegistry(0));
+
+					Pair<int[], int[]> fused = verifier(semantics).verifyPreferences(at, prefSets.encoded(), ext);
+					assertArrayEquals(serial1, fused.getFirst());
+					assertArrayEquals(serial2, fused.getSecond());
+					Pair<int[], int[]> serialFused = ArgumentationPreferences.verifyEncodedPreferences(at, prefSets.encoded(), ext, semantics, new ReasonerRegistry(0));
+					assertArrayEquals(serial1, serialFused.getFirst());
+					assertArrayEquals(serial2, serialFused.getSecond());
+
+					if(serial1[0] < prefSets.size())
+						incorrect++;
+				}
+			}
+		}
+		assertTrue(incorrect > 0);
+	}
+
+	@Test
+	public void fusedSearchMatchesSeparate()
+	{
+		int found = 0;
+		for (DungTheory at : TestFrameworks.verified())
+		{
+			for (boolean extended : new boolean[] {false, true})
+			{
+				Set<Argument> ext = TestFrameworks.grounded(at, extended);
+				if(ext.isEmpty())
+					continue;
+				PreferenceSetEnumerator prefSets = PreferenceSetEnumerator.forExtension(at, ext);
+				for (Semantics semantics : SEMANTICS)
+				{
+					boolean correct1 = ArgumentationPreferences.verifyEncodedPreferences1(at, prefSets.encoded(), ext, semantics, new ReasonerRegistry(0))[0] == prefSets.size();
+					boolean correct2 = ArgumentationPreferences.verifyEncodedPreferences2(at, prefSets.encoded(), ext, semantics, new ReasonerRegistry(0))[0] == prefSets.size();
+
+					Pair<EncodedPreferenceSet, EncodedPreferenceSet> witnesses = verifier(semantics).findIncorrectPreferences(at, prefSets.encoded(), ext);
+					assertEquals(correct1, witnesses.getFirst() == null);
+					assertEquals(correct2, witnesses.getSecond() == null);
+
+					//each witness is a set of the space that the serial check of its method rejects
+					if(witnesses.getFirst() != null)
+					{
+						assertTrue(prefSets.contains(witnesses.getFirst()));
+						assertFalse(ArgumentationPreferences.verifyApproximatePreferences1(at, witnesses.getFirst(), ext, semantics, new ReasonerRegistry(0)));
+						found++;
+					}
+					if(witnesses.getSecond() != null)
+					{
+						assertTrue(prefSets.contains(witnesses.getSecond()));
+						assertFalse(ArgumentationPreferences.verifyApproximatePreferences2(at, witnesses.getSecond(), ext, semantics, new ReasonerRegistry(0)));
+						found++;
+					}
+				}
+			}
+		}
+		assertTrue(found > 0);
+	}
+
+	private static ParallelPreferenceVerifier verifier(Semantics semantics)
+	{
+		return new ParallelPreferenceVerifier(pool, semantics, new ReasonerRegistry(0));
+	}
+
+}
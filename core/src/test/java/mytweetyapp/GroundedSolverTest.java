@@ -0,0 +1,36 @@
+package mytweetyapp;
+
+/*
+ * The grounded labelling against the grounded extension tweety computes, for the base framework and its attack
+ * removal and attack reversal overlays: the incremental solve of an overlay from the grounded extension of its base,
+ * and the labelling of the whole overlay.
+ */
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class GroundedSolverTest {
+
+	@Test
+	public void groundedSolverMatchesEnumeration()
+	{
+		ReasonerRegistry reference = new ReasonerRegistry();
+		for (DungTheory at : TestFrameworks.checked())
+		{
+			for (DungTheoryOverlay view : TestFrameworks.overlays(at, 11))
+			{
+				Set<Argument> grounded = reference.getModels(view, Semantics.GROUNDED_SEMANTICS).iterator().next();
+				assertArrayEquals(view.toMask(grounded), view.getBase().getGroundedSolver().solve(view));
+				assertArrayEquals(view.toMask(grounded), GroundedSolver.solve((IndexedFramework) view));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,76 @@
+package mytweetyapp;
+
+/*
+ * The parallel verifier against the serial verifyEncodedPreferences1/2: the counts of attack removal and of attack
+ * reversal, for grounded, preferred and stable semantics.
+ */
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class ParallelPreferenceVerifierTest {
+
+	private static final Semantics[] SEMANTICS = {Semantics.GROUNDED_SEMANTICS, Semantics.PREFERRED_SEMANTICS, Semantics.STABLE_SEMANTICS};
+
+	private static ForkJoinPool pool;
+	private static PreferenceLog log;
+
+	@BeforeClass
+	public static void setUp()
+	{
+		pool = new ForkJoinPool(4);
+		log = PreferenceLog.get();
+		PreferenceLog.set(PreferenceLog.OFF);
+	}
+
+	@AfterClass
+	public static void tearDown()
+	{
+		pool.shutdown();
+		PreferenceLog.set(log);
+	}
+
+	@Test
+	public void countsMatchSerial()
+	{
+		int incorrect = 0;
+		for (DungTheory at : TestFrameworks.verified())
+		{
+			for (boolean extended : new boolean[] {false, true})
+			{
+				Set<Argument> ext = TestFrameworks.grounded(at, extended);
+				if(ext.isEmpty())
+					continue;
+				PreferenceSetEnumerator prefSets = PreferenceSetEnumerator.forExtension(at, ext);
+				for (Semantics semantics : SEMANTICS)
+				{
+					int[] serial1 = ArgumentationPreferences.verifyEncodedPreferences1(at, prefSets.encoded(), ext, semantics, new ReasonerRegistry(0));
+					int[] serial2 = ArgumentationPreferences.verifyEncodedPreferences2(at, prefSets.encoded(), ext, semantics, new ReasonerRegistry(0));
+					assertArrayEquals(serial1, verifier(semantics).verifyPreferences1(at, prefSets.encoded(), ext));
+					assertArrayEquals(serial2, verifier(semantics).verifyPreferences2(at, prefSets.encoded(), ext));
+
+					if(serial1[0] < prefSets.size())
+						incorrect++;
+				}
+			}
+		}
+		assertTrue(incorrect > 0);
+	}
+
+	private static ParallelPreferenceVerifier verifier(Semantics semantics)
+	{
+		return new ParallelPreferenceVerifier(pool, semantics, new ReasonerRegistry(0));
+	}
+
+}
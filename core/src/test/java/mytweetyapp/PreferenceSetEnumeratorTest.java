@@ -0,0 +1,63 @@
+package mytweetyapp;
+
+/*
+ * The lazy enumerator against the preference sets the original algorithm materialises: the same sets, each once,
+ * through the iterator, the spliterator and the index, for grounded and preferred extensions.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class PreferenceSetEnumeratorTest {
+
+	private static List<DungTheory> frameworks()
+	{
+		List<DungTheory> frameworks = TestFrameworks.generated(new int[] {4, 6, 8}, new double[] {0.2, 0.4}, 4, 1);
+		frameworks.addAll(TestFrameworks.components(3, 6, 2));
+		return frameworks;
+	}
+
+	@Test
+	public void enumeratedSetsMatchBaseline()
+	{
+		int checked = 0;
+		for (DungTheory at : frameworks())
+		{
+			for (Semantics semantics : new Semantics[] {Semantics.GROUNDED_SEMANTICS, Semantics.PREFERRED_SEMANTICS})
+			{
+				for (Set<Argument> ext : TestFrameworks.nonEmptyExtensions(at, semantics))
+				{
+					Set<Set<Preference>> expected = TestFrameworks.preferenceSets(at, ext);
+					assertEquals(expected, ArgumentationPreferences.ComputeAllPreferences(at, ext));
+
+					PreferenceSetEnumerator prefSets = PreferenceSetEnumerator.forExtension(at, ext);
+					assertEquals(expected.size(), prefSets.size());
+					assertEquals(BigInteger.valueOf(expected.size()), prefSets.count());
+
+					Set<Set<Preference>> enumerated = new HashSet<Set<Preference>>();
+					for (Set<Preference> prefs : prefSets)
+						enumerated.add(prefs);
+					assertEquals(expected, enumerated);
+					assertEquals(expected, prefSets.parallelStream().collect(Collectors.toSet()));
+					for (long i = 0; i < prefSets.size(); i++)
+						assertTrue(expected.contains(prefSets.get(i)));
+					checked++;
+				}
+			}
+		}
+		assertTrue(checked > 0);
+	}
+
+}
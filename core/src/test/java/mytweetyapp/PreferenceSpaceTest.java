@@ -0,0 +1,152 @@
+package mytweetyapp;
+
+/*
+ * The preference space in product form against the Set-based Case 1, 2 and 3 functions it replaced: the product of
+ * its factors and the sets drawn from it are sets of the original algorithm, membership accepts a set only in the
+ * form the enumerator writes it, and a space of more sets than a long holds is iterated and split from count().
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+
+import org.junit.Test;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.Attack;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class PreferenceSpaceTest {
+
+	private static List<DungTheory> frameworks()
+	{
+		List<DungTheory> frameworks = TestFrameworks.generated(new int[] {4, 6, 8}, new double[] {0.2, 0.4}, 4, 1);
+		frameworks.addAll(TestFrameworks.components(3, 6, 2));
+		return frameworks;
+	}
+
+	//sets drawn from the space and the sets of the product of its factors are sets of the original algorithm
+
+	@Test
+	public void sampledAndProductSetsMatchBaseline()
+	{
+		for (DungTheory at : frameworks())
+		{
+			for (Set<Argument> ext : TestFrameworks.nonEmptyExtensions(at, Semantics.GROUNDED_SEMANTICS))
+			{
+				Set<Set<Preference>> expected = TestFrameworks.preferenceSets(at, ext);
+				PreferenceSetEnumerator space = ArgumentationPreferences.ComputeAllPreferenceSpace(at, ext);
+				SplittableRandom rand = new SplittableRandom(7);
+				for (int i = 0; i < 10; i++)
+					assertTrue(expected.contains(space.sample(rand)));
+				if(space.getNumberOfFactors() == 0)
+					continue;
+				List<PreferenceSetEnumerator> factors = new ArrayList<PreferenceSetEnumerator>();
+				for (int f = 0; f < space.getNumberOfFactors(); f++)
+					factors.add(space.getFactor(f));
+				PreferenceSetEnumerator product = PreferenceSetEnumerator.product(factors);
+				assertEquals(space.size(), product.size());
+				for (EncodedPreferenceSet prefs : product.encoded())
+					assertTrue(expected.contains(prefs.toPreferences()));
+			}
+		}
+	}
+
+	//a set is only in the space as the enumerator writes it: not with a=b turned round, nor with a preference over a pair without an attack
+
+	@Test
+	public void containsOnlyEnumeratedForms()
+	{
+		int turned = 0;
+		for (DungTheory at : frameworks())
+		{
+			for (Set<Argument> ext : TestFrameworks.nonEmptyExtensions(at, Semantics.GROUNDED_SEMANTICS))
+			{
+				PreferenceSetEnumerator space = ArgumentationPreferences.ComputeAllPreferenceSpace(at, ext);
+				for (Set<Preference> prefs : space)
+				{
+					assertTrue(space.contains(prefs));
+					for (Preference p : prefs)
+					{
+						if(p.getRelation() != PreferenceRelation.EQUAL)
+							continue;
+						Set<Preference> other = new HashSet<Preference>(prefs);
+						other.remove(p);
+						other.add(new Preference(p.getSecond(), PreferenceRelation.EQUAL, p.getFirst()));
+						assertFalse(space.contains(other));
+						turned++;
+					}
+					for (Argument a : at)
+					{
+						for (Argument b : at)
+						{
+							if(at.isAttackedBy(a, b) || at.isAttackedBy(b, a))
+								continue;
+							Set<Preference> other = new HashSet<Preference>(prefs);
+							other.add(new Preference(a, PreferenceRelation.GREATER, b));
+							assertFalse(space.contains(other));
+						}
+					}
+				}
+			}
+		}
+		assertTrue(turned > 0);
+	}
+
+	//a space of 3^50 sets, more than a long holds: iterating and splitting work from count() instead of size()
+
+	@Test
+	public void spaceLargerThanLong()
+	{
+		DungTheory at = new DungTheory();
+		Argument a = new Argument("a");
+		Argument b = new Argument("b");
+		at.add(a);
+		at.add(b);
+		at.add(new Attack(b, a));
+		Set<Argument> ext = new HashSet<Argument>(Arrays.asList(a));
+		PreferenceSlots slots = new PreferenceSlots(at, ext);
+		int slot = slots.slot(a, b);
+		int[] choiceSlots = new int[50];
+		int[][] choiceCodes = new int[50][];
+		for (int i = 0; i < 50; i++)
+		{
+			choiceSlots[i] = slot;
+			choiceCodes[i] = new int[] {EncodedPreferenceSet.FIRST_PREFERRED, EncodedPreferenceSet.EQUAL, EncodedPreferenceSet.SECOND_PREFERRED};
+		}
+		PreferenceSetEnumerator space = new PreferenceSetEnumerator(slots.empty(), choiceSlots, choiceCodes);
+		assertEquals(BigInteger.valueOf(3).pow(50), space.count());
+
+		Iterator<EncodedPreferenceSet> it = space.encoded().iterator();
+		for (int i = 0; i < 10; i++)
+			assertEquals(space.getEncoded(i), it.next());
+
+		Spliterator<EncodedPreferenceSet> spliterator = space.encoded().spliterator();
+		assertEquals(Long.MAX_VALUE, spliterator.estimateSize());
+		assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+		Spliterator<EncodedPreferenceSet> prefix = spliterator.trySplit();
+		while(prefix.hasCharacteristics(Spliterator.SIZED) == false)
+			prefix = prefix.trySplit();
+		assertEquals(space.getEncoded(0), firstOf(prefix));
+		assertTrue(spliterator.tryAdvance(prefs -> assertEquals(space.getEncoded(space.count().shiftRight(1)), prefs)));
+	}
+
+	private static EncodedPreferenceSet firstOf(Spliterator<EncodedPreferenceSet> spliterator)
+	{
+		List<EncodedPreferenceSet> first = new ArrayList<EncodedPreferenceSet>();
+		spliterator.tryAdvance(first::add);
+		return first.get(0);
+	}
+
+}
@@ -0,0 +1,96 @@
+package mytweetyapp;
+
+/*
+ * ReasonerRegistry.isExtension, isUniqueExtension and classify against the extensions tweety computes for the same
+ * overlay, for every subset of the arguments. The overlays are the base framework and its attack removal and attack
+ * reversal under approximate preferences, on generated frameworks and on frameworks with several components and
+ * self-attacks. The cached extensions against uncached enumeration, with a cache large enough to hold every overlay
+ * and with one that holds a single entry.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.Attack;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class ReasonerRegistryTest {
+
+	private static final Semantics[] SEMANTICS = {Semantics.GROUNDED_SEMANTICS, Semantics.PREFERRED_SEMANTICS, Semantics.STABLE_SEMANTICS};
+
+	@Test
+	public void registryMatchesEnumeration()
+	{
+		ReasonerRegistry reference = new ReasonerRegistry();
+		ReasonerRegistry reasoners = new ReasonerRegistry(0);
+		int unique = 0;
+		for (DungTheory at : TestFrameworks.checked())
+		{
+			List<Set<Argument>> subsets = TestFrameworks.subsets(at);
+			for (DungTheoryOverlay view : TestFrameworks.overlays(at, 7))
+			{
+				for (Semantics semantics : SEMANTICS)
+				{
+					Set<Set<Argument>> ext_sets = reference.getModels(view, semantics);
+					for (Set<Argument> ext : subsets)
+					{
+						int category = ArgumentationPreferences.classifyExtensions(ext_sets, ext);
+						assertEquals(ext_sets.contains(ext), reasoners.isExtension(view, semantics, ext));
+						assertEquals(category == 0, reasoners.isUniqueExtension(view, semantics, ext));
+						assertEquals(category, reasoners.classify(view, semantics, ext));
+						if(category == 0)
+							unique++;
+					}
+				}
+			}
+		}
+		assertTrue(unique > 0);
+	}
+
+	@Test
+	public void cachedModelsMatchUncached()
+	{
+		ReasonerRegistry uncached = new ReasonerRegistry(0);
+		ReasonerRegistry cached = new ReasonerRegistry();
+		ReasonerRegistry single = new ReasonerRegistry(1);
+		for (DungTheory at : TestFrameworks.checked())
+		{
+			for (DungTheoryOverlay view : TestFrameworks.overlays(at, 11))
+			{
+				for (Semantics semantics : SEMANTICS)
+				{
+					Set<Set<Argument>> ext_sets = uncached.getModels(view, semantics);
+					assertEquals(ext_sets, cached.getModels(view, semantics));
+					long hits = cached.getCache().getHits();
+					//a copy of the overlay has the same attack relation over the same base, so it is a hit
+					assertEquals(ext_sets, cached.getModels(copy(view), semantics));
+					assertEquals(hits + 1, cached.getCache().getHits());
+					assertEquals(ext_sets, single.getModels(view, semantics));
+					assertTrue(single.getCache().size() <= 1);
+				}
+			}
+		}
+		assertEquals(0, uncached.getCache().size());
+		assertEquals(0, uncached.getCache().getHits() + uncached.getCache().getMisses());
+	}
+
+	//a new overlay of the same base with the same changed attacks
+
+	private static DungTheoryOverlay copy(DungTheoryOverlay view)
+	{
+		DungTheoryOverlay copy = new DungTheoryOverlay(view.getBase());
+		for (Attack att : view.getRemovedAttacks())
+			copy.removeAttack(view.indexOf(att.getAttacker()), view.indexOf(att.getAttacked()));
+		for (Attack att : view.getAddedAttacks())
+			copy.addAttack(view.indexOf(att.getAttacker()), view.indexOf(att.getAttacked()));
+		return copy;
+	}
+
+}
@@ -0,0 +1,48 @@
+package mytweetyapp;
+
+/*
+ * The one-off SAT checks against enumeration: isUniqueStableExtension, isUniquePreferredExtension and
+ * isPreferredExtension against the extensions tweety computes for the same overlay, for every subset of the arguments.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class SatExtensionSolverTest {
+
+	@Test
+	public void satChecksMatchEnumeration()
+	{
+		int unique = 0;
+		ReasonerRegistry reference = new ReasonerRegistry();
+		for (DungTheory at : TestFrameworks.checked())
+		{
+			List<Set<Argument>> subsets = TestFrameworks.subsets(at);
+			for (DungTheoryOverlay view : TestFrameworks.overlays(at, 23))
+			{
+				Set<Set<Argument>> preferred = reference.getModels(view, Semantics.PREFERRED_SEMANTICS);
+				Set<Set<Argument>> stable = reference.getModels(view, Semantics.STABLE_SEMANTICS);
+				for (Set<Argument> ext : subsets)
+				{
+					long[] mask = view.toMask(ext);
+					assertEquals(preferred.contains(ext), SatExtensionSolver.isPreferredExtension(view, mask));
+					assertEquals(ArgumentationPreferences.classifyExtensions(preferred, ext) == 0, SatExtensionSolver.isUniquePreferredExtension(view, mask));
+					assertEquals(ArgumentationPreferences.classifyExtensions(stable, ext) == 0, SatExtensionSolver.isUniqueStableExtension(view, mask));
+					if(SatExtensionSolver.isUniquePreferredExtension(view, mask))
+						unique++;
+				}
+			}
+		}
+		assertTrue(unique > 0);
+	}
+
+}
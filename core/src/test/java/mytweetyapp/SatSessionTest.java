@@ -0,0 +1,105 @@
+package mytweetyapp;
+
+/*
+ * The incremental SatSession of a base framework against enumeration: isExtension, isUniqueExtension and classify
+ * for every subset of the arguments, and the extension findExtension picks, on the base framework and its attack
+ * removal and attack reversal overlays, with one session per semantics and kind serving every overlay, and the
+ * reuse of released sessions.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class SatSessionTest {
+
+	//one session per semantics and kind serves every overlay of the base, so its activation variables carry over
+
+	@Test
+	public void satSessionMatchesEnumeration()
+	{
+		ReasonerRegistry reference = new ReasonerRegistry();
+		for (DungTheory at : TestFrameworks.checked())
+		{
+			List<Set<Argument>> subsets = TestFrameworks.subsets(at);
+			List<DungTheoryOverlay> overlays = TestFrameworks.overlays(at, 13);
+			IndexedDungTheory base = overlays.get(0).getBase();
+			for (Semantics semantics : new Semantics[] {Semantics.PREFERRED_SEMANTICS, Semantics.STABLE_SEMANTICS})
+			{
+				SatSession session = new SatSession(base, semantics, false);
+				SatSession reversible = new SatSession(base, semantics, true);
+				for (DungTheoryOverlay view : overlays)
+				{
+					Set<Set<Argument>> ext_sets = reference.getModels(view, semantics);
+					assertTrue(reversible.covers(view));
+					assertEquals(view.hasAddedAttacks() == false, session.covers(view));
+					for (Set<Argument> ext : subsets)
+					{
+						long[] mask = view.toMask(ext);
+						int category = ArgumentationPreferences.classifyExtensions(ext_sets, ext);
+						check(reversible, view, mask, ext_sets.contains(ext), category);
+						if(session.covers(view))
+							check(session, view, mask, ext_sets.contains(ext), category);
+					}
+				}
+			}
+		}
+	}
+
+	//the extension a session finds is one of the extensions, and is only missing when there are none
+
+	@Test
+	public void sessionFindsExtension()
+	{
+		ReasonerRegistry reference = new ReasonerRegistry();
+		for (DungTheory at : TestFrameworks.checked())
+		{
+			List<DungTheoryOverlay> overlays = TestFrameworks.overlays(at, 19);
+			IndexedDungTheory base = overlays.get(0).getBase();
+			for (Semantics semantics : new Semantics[] {Semantics.PREFERRED_SEMANTICS, Semantics.STABLE_SEMANTICS})
+			{
+				SatSession session = new SatSession(base, semantics, true);
+				for (DungTheoryOverlay view : overlays)
+				{
+					Set<Set<Argument>> ext_sets = reference.getModels(view, semantics);
+					long[] ext = session.findExtension(view);
+					if(ext == null)
+						assertTrue(ext_sets.isEmpty());
+					else
+						assertTrue(ext_sets.contains(base.toArguments(ext)));
+				}
+			}
+		}
+	}
+
+	//a released session is handed out again for the same semantics and kind, and only for those
+
+	@Test
+	public void releasedSessionIsReused()
+	{
+		IndexedDungTheory base = new IndexedDungTheory(TestFrameworks.selfAttacks());
+		SatSession session = base.acquireSatSession(Semantics.PREFERRED_SEMANTICS, true);
+		base.releaseSatSession(session);
+		SatSession stable = base.acquireSatSession(Semantics.STABLE_SEMANTICS, true);
+		SatSession removal = base.acquireSatSession(Semantics.PREFERRED_SEMANTICS, false);
+		assertTrue(stable != session);
+		assertTrue(removal != session);
+		assertTrue(base.acquireSatSession(Semantics.PREFERRED_SEMANTICS, true) == session);
+	}
+
+	private static void check(SatSession session, IndexedFramework at, long[] mask, boolean extension, int category)
+	{
+		assertEquals(extension, session.isExtension(at, mask));
+		assertEquals(category == 0, session.isUniqueExtension(at, mask));
+		assertEquals(category, session.classify(at, mask));
+	}
+
+}
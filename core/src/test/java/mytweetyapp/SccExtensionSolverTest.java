@@ -0,0 +1,110 @@
+package mytweetyapp;
+
+/*
+ * The SCC decomposition against reachability read off the attacks: two arguments share a component exactly when
+ * each reaches the other, and every attacker lies in the same or an earlier component. The SCC-recursive preferred
+ * checks against the preferred extensions tweety computes for the same overlay, for every subset of the arguments.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+
+public class SccExtensionSolverTest {
+
+	@Test
+	public void componentsMatchReachability()
+	{
+		int split = 0;
+		for (DungTheory at : TestFrameworks.checked())
+		{
+			for (DungTheoryOverlay view : TestFrameworks.overlays(at, 19))
+			{
+				SccDecomposition sccs = new SccDecomposition(view);
+				boolean[][] reaches = reachability(view);
+				int n = view.size();
+				int total = 0;
+				int largest = 0;
+				for (int c = 0; c < sccs.getNumberOfComponents(); c++)
+				{
+					for (int a : sccs.getArguments(c))
+						assertEquals(c, sccs.getComponent(a));
+					assertEquals(sccs.getArguments(c).length, sccs.getSize(c));
+					total += sccs.getSize(c);
+					largest = Math.max(largest, sccs.getSize(c));
+				}
+				assertEquals(n, total);
+				assertEquals(largest, sccs.getLargestComponentSize());
+				for (int a = 0; a < n; a++)
+				{
+					for (int b = 0; b < n; b++)
+					{
+						assertEquals(reaches[a][b] && reaches[b][a], sccs.getComponent(a) == sccs.getComponent(b));
+						if(view.isAttackedBy(a, b))
+							assertTrue(sccs.getComponent(b) <= sccs.getComponent(a));
+					}
+				}
+				if(sccs.getNumberOfComponents() > 1)
+					split++;
+			}
+		}
+		assertTrue(split > 0);
+	}
+
+	@Test
+	public void sccPreferredMatchesEnumeration()
+	{
+		ReasonerRegistry reference = new ReasonerRegistry();
+		int split = 0;
+		for (DungTheory at : TestFrameworks.checked())
+		{
+			List<Set<Argument>> subsets = TestFrameworks.subsets(at);
+			for (DungTheoryOverlay view : TestFrameworks.overlays(at, 17))
+			{
+				SccDecomposition sccs = new SccDecomposition(view);
+				if(sccs.getNumberOfComponents() > 1)
+					split++;
+				Set<Set<Argument>> ext_sets = reference.getModels(view, Semantics.PREFERRED_SEMANTICS);
+				for (Set<Argument> ext : subsets)
+				{
+					long[] mask = view.toMask(ext);
+					assertEquals(ext_sets.contains(ext), SccExtensionSolver.isPreferredExtension(view, sccs, mask));
+					assertEquals(ArgumentationPreferences.classifyExtensions(ext_sets, ext) == 0, SccExtensionSolver.isUniquePreferredExtension(view, sccs, mask));
+				}
+			}
+		}
+		assertTrue(split > 0);
+	}
+
+	//reaches[a][b] when a path of attacks leads from a to b, every argument reaching itself
+
+	private static boolean[][] reachability(IndexedFramework at)
+	{
+		int n = at.size();
+		boolean[][] reaches = new boolean[n][n];
+		for (int a = 0; a < n; a++)
+		{
+			reaches[a][a] = true;
+			for (int b = 0; b < n; b++)
+				reaches[a][b] |= at.isAttackedBy(b, a);
+		}
+		for (int k = 0; k < n; k++)
+		{
+			for (int a = 0; a < n; a++)
+			{
+				for (int b = 0; (b < n) && reaches[a][k]; b++)
+					reaches[a][b] |= reaches[k][b];
+			}
+		}
+		return reaches;
+	}
+
+}
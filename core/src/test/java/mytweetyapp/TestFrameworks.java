@@ -0,0 +1,223 @@
+package mytweetyapp;
+
+/*
+ * Small fixed-seed frameworks for the equivalence tests: frameworks from the tweety generator, as the drivers use,
+ * and frameworks built as a chain of small blocks, each with its own cycles and self-attacks and attacked only by
+ * earlier blocks, so they split into several strongly connected components, and overlays of a framework under
+ * approximate preferences. The extensions and preference sets the tests compare against come from tweety and from
+ * the Set-based functions of the original algorithm.
+ */
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import net.sf.tweety.arg.dung.reasoner.AbstractExtensionReasoner;
+import net.sf.tweety.arg.dung.semantics.Extension;
+import net.sf.tweety.arg.dung.semantics.Semantics;
+import net.sf.tweety.arg.dung.syntax.Argument;
+import net.sf.tweety.arg.dung.syntax.Attack;
+import net.sf.tweety.arg.dung.syntax.DungTheory;
+import net.sf.tweety.arg.dung.util.DefaultDungTheoryGenerator;
+import net.sf.tweety.arg.dung.util.DungTheoryGenerationParameters;
+
+final class TestFrameworks {
+
+	private TestFrameworks()
+	{
+	}
+
+	//count frameworks of the generator for each size and attack probability
+
+	static List<DungTheory> generated(int[] sizes, double[] probabilities, int count, long seed)
+	{
+		List<DungTheory> frameworks = new ArrayList<DungTheory>();
+		for (int n : sizes)
+		{
+			for (double p : probabilities)
+			{
+				DungTheoryGenerationParameters params = new DungTheoryGenerationParameters();
+				params.numberOfArguments = n;
+				params.attackProbability = p;
+				params.enforceTreeShape = false;
+				DefaultDungTheoryGenerator tgen = new DefaultDungTheoryGenerator(params);
+				tgen.setSeed(seed);
+				for (int i = 0; i < count; i++)
+					frameworks.add(tgen.next());
+			}
+		}
+		return frameworks;
+	}
+
+	//count frameworks of blocks of 1 to 3 arguments, with attacks inside a block, self-attacks and attacks from earlier blocks
+
+	static List<DungTheory> components(int blocks, int count, long seed)
+	{
+		Random rand = new Random(seed);
+		List<DungTheory> frameworks = new ArrayList<DungTheory>();
+		for (int i = 0; i < count; i++)
+		{
+			DungTheory at = new DungTheory();
+			List<Argument> earlier = new ArrayList<Argument>();
+			for (int b = 0; b < blocks; b++)
+			{
+				List<Argument> block = new ArrayList<Argument>();
+				int size = 1 + rand.nextInt(3);
+				for (int k = 0; k < size; k++)
+				{
+					Argument a = new Argument("b" + b + "_" + k);
+					at.add(a);
+					block.add(a);
+				}
+				//a cycle through the block, so it is one component, and a few more attacks inside it
+				for (int k = 0; (size > 1) && (k < size); k++)
+					at.add(new Attack(block.get(k), block.get((k + 1) % size)));
+				for (Argument x : block)
+				{
+					for (Argument y : block)
+					{
+						if(rand.nextInt(5) == 0)
+							at.add(new Attack(x, y));
+					}
+					for (Argument y : earlier)
+					{
+						if(rand.nextInt(4) == 0)
+							at.add(new Attack(y, x));
+					}
+				}
+				earlier.addAll(block);
+			}
+			frameworks.add(at);
+		}
+		return frameworks;
+	}
+
+	//the frameworks of the extension check tests: small enough to check every subset of the arguments
+
+	static List<DungTheory> checked()
+	{
+		List<DungTheory> frameworks = generated(new int[] {4, 7}, new double[] {0.15, 0.3}, 3, 5);
+		frameworks.addAll(components(3, 8, 6));
+		frameworks.add(selfAttacks());
+		return frameworks;
+	}
+
+	//the frameworks of the verifier tests
+
+	static List<DungTheory> verified()
+	{
+		List<DungTheory> frameworks = generated(new int[] {5, 7}, new double[] {0.2, 0.35}, 4, 3);
+		frameworks.addAll(components(3, 6, 4));
+		return frameworks;
+	}
+
+	//the grounded extension, and the same with one more argument so that some sets are incorrect
+
+	static Set<Argument> grounded(DungTheory at, boolean extended)
+	{
+		Set<Argument> ext = new HashSet<Argument>(extensions(at, Semantics.GROUNDED_SEMANTICS).iterator().next());
+		for (Argument a : at)
+		{
+			if(extended && (ext.contains(a) == false))
+			{
+				ext.add(a);
+				break;
+			}
+		}
+		return ext;
+	}
+
+	//a attacks the self-attacking b, which attacks c, and c and d attack each other: b is never accepted, a defends c
+
+	static DungTheory selfAttacks()
+	{
+		DungTheory at = new DungTheory();
+		Argument a = new Argument("a");
+		Argument b = new Argument("b");
+		Argument c = new Argument("c");
+		Argument d = new Argument("d");
+		at.add(a);
+		at.add(b);
+		at.add(c);
+		at.add(d);
+		at.add(new Attack(a, b));
+		at.add(new Attack(b, b));
+		at.add(new Attack(b, c));
+		at.add(new Attack(c, d));
+		at.add(new Attack(d, c));
+		return at;
+	}
+
+	//the base framework, and its attack removal and attack reversal under approximate preferences for the grounded extension
+
+	static List<DungTheoryOverlay> overlays(DungTheory at, long seed)
+	{
+		IndexedDungTheory base = new IndexedDungTheory(at);
+		Set<Argument> ext = base.toArguments(GroundedSolver.solve(base));
+		PreferenceSlots slots = new PreferenceSlots(base, ext);
+		SplittableRandom rand = new SplittableRandom(seed);
+		List<DungTheoryOverlay> overlays = new ArrayList<DungTheoryOverlay>();
+		overlays.add(new DungTheoryOverlay(base));
+		for (int i = 0; i < 2; i++)
+		{
+			EncodedPreferenceSet prefs = ArgumentationPreferences.ComputeApproximatePreferencesEncoded(at, ext, slots, rand);
+			overlays.add(DungTheoryOverlay.applyPreferenceSetRemoveAttack(base, prefs));
+			overlays.add(DungTheoryOverlay.applyPreferenceSetReverseAttack(base, prefs));
+		}
+		return overlays;
+	}
+
+	//the extensions of the framework under the semantics, as tweety computes them
+
+	static Set<Set<Argument>> extensions(DungTheory at, Semantics semantics)
+	{
+		Collection<Extension> ext_sets = AbstractExtensionReasoner.getSimpleReasonerForSemantics(semantics).getModels(at);
+		return ArgumentationPreferences.collectionToSet(ext_sets);
+	}
+
+	//the non-empty extensions of the framework under the semantics, or an empty list if it has none
+
+	static List<Set<Argument>> nonEmptyExtensions(DungTheory at, Semantics semantics)
+	{
+		List<Set<Argument>> exts = new ArrayList<Set<Argument>>();
+		for (Set<Argument> ext : extensions(at, semantics))
+		{
+			if(ext.isEmpty() == false)
+				exts.add(new HashSet<Argument>(ext));
+		}
+		return exts;
+	}
+
+	//all preference sets of the extension as the original algorithm computes them, with the Set-based Case 1, 2 and 3 functions
+
+	static Set<Set<Preference>> preferenceSets(DungTheory at, Set<Argument> ext)
+	{
+		Set<Preference> s1 = ArgumentationPreferences.computeCase1Preferences(at, ext);
+		Set<Set<Preference>> s2 = ArgumentationPreferences.computeCase2Preferences(at, ext, s1);
+		return ArgumentationPreferences.computeCase3Preferences(at, ext, s2);
+	}
+
+	//every subset of the arguments of the framework, which has to be small
+
+	static List<Set<Argument>> subsets(DungTheory at)
+	{
+		List<Argument> args = new ArrayList<Argument>(at);
+		List<Set<Argument>> sets = new ArrayList<Set<Argument>>();
+		for (int m = 0; m < (1 << args.size()); m++)
+		{
+			Set<Argument> set = new HashSet<Argument>();
+			for (int i = 0; i < args.size(); i++)
+			{
+				if(((m >> i) & 1) == 1)
+					set.add(args.get(i));
+			}
+			sets.add(set);
+		}
+		return sets;
+	}
+
+}
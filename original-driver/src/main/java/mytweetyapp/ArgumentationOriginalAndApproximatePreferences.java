@@ -0,0 +1,34 @@
+package mytweetyapp;
+
+/*
+ * The source code of the implementation of all algorithms in the paper titled: "An Extension-based Approach for Computing and Verifying Preferences in Abstract Argumentation"
+ * Submitted to Journal of Artificial Intelligence (AIJ) 2023.
+ * Corresponding author: Quratul-ain Mahesar, email: q.mahesar@hud.ac.uk
+ * The algorithms themselves are in ArgumentationPreferences of the core module.
+ */
+
+import java.io.IOException;
+
+public class ArgumentationOriginalAndApproximatePreferences {
+	
+	
+	public static void main(String[] args) throws IOException {
+		
+		// sweep used when no options are given: AAF size 12, attack probability 0.75, grounded semantics, 10 instances
+		SweepConfig config = new SweepConfig("12", "0.75", "grounded", "results/approximate");
+		try
+		{
+			config.parse(args);
+		}
+		catch (IllegalArgumentException e)
+		{
+			System.err.println(e.getMessage());
+			System.err.println(SweepConfig.usage());
+			return;
+		}
+		
+		ExperimentSweep.run(config, true);
+		
+		}
+
+}
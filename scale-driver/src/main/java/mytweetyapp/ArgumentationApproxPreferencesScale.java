@@ -0,0 +1,35 @@
+package mytweetyapp;
+
+/*
+ * The source code of the implementation of all algorithms for Computing and Verifying Scalable Approximate Preferences in the paper titled: "An Extension-based Approach for Computing and Verifying Preferences in Abstract Argumentation"
+ * Submitted to Journal of Artificial Intelligence (AIJ) 2023.
+ * Corresponding author: Quratul-ain Mahesar, email: q.mahesar@hud.ac.uk
+ * The code generates the data sets for the experiments on larger AAF sizes for checking the scalability of the Approximate algorithm.
+ * The algorithms themselves are in ArgumentationPreferences of the core module.
+ */
+
+import java.io.IOException;
+
+public class ArgumentationApproxPreferencesScale {
+	
+	
+	public static void main(String[] args) throws IOException {
+		
+		// sweep used when no options are given: AAF size 20, attack probability 0.25, grounded semantics, 10 instances
+		SweepConfig config = new SweepConfig("20", "0.25", "grounded", "results/approximate-scale");
+		try
+		{
+			config.parse(args);
+		}
+		catch (IllegalArgumentException e)
+		{
+			System.err.println(e.getMessage());
+			System.err.println(SweepConfig.usage());
+			return;
+		}
+		
+		ExperimentSweep.run(config, false);
+		
+		}
+
+}